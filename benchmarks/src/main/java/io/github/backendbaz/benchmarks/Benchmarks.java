@@ -0,0 +1,42 @@
+package io.github.backendbaz.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ * <p>
+ * Runs JMH with the given command-line options and, unless the caller picks
+ * a result format with {@code -rf}, writes the results as JSON to
+ * {@code jmh-result.json} so runs of different releases can be compared
+ * (e.g. with the JMH Visualizer or a script).
+ * </p>
+ *
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar                  # everything
+ * java -jar benchmarks/target/benchmarks.jar FindTopWords -p density=DENSE
+ * java -jar benchmarks/target/benchmarks.jar -rf csv -rff result.csv
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public final class Benchmarks {
+
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(List.of(args));
+        if (!options.contains("-rf")) {
+            options.add("-rf");
+            options.add("json");
+            if (!options.contains("-rff")) {
+                options.add("-rff");
+                options.add("jmh-result.json");
+            }
+        }
+        org.openjdk.jmh.Main.main(options.toArray(String[]::new));
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.github.backendbaz.benchmarks;
+
+/**
+ * Fixed 4x4 boards the search benchmarks cycle through, so every run and
+ * every release is measured on exactly the same input.
+ * <p>
+ * Search cost depends mostly on how many trie prefixes a board keeps alive,
+ * so the boards are grouped by letter mix rather than picked at random.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public enum BoardCorpus {
+
+    /** Frequent letters and many vowels: thousands of live prefixes. */
+    DENSE(
+            "ا ت ش ن ی ن ا ش ن ع م ا د س ی ف",
+            "م ی ت ا ا ل ی د ش ا ک و ا ا ه ه",
+            "ا و ا ل ه ا ش ی و ش ا ش ش ت ا و",
+            "ا ل ی ن ه ی ل ی ش ن ل ی ی ش ش و"
+    ),
+
+    /** Uniformly random letters. */
+    MIXED(
+            "ص ش ه س ض ق م ت ه ج د ض ث ذ ص ح",
+            "س ط ی ز ز ح ذ خ ب خ س ق ا د ع ب",
+            "س ث خ ص ص ش ک س گ ق ع ک ژ ص و ژ",
+            "پ ذ ص ز ف و ش س م ک ا د ل ا ض پ"
+    ),
+
+    /** Rare letters only: the search dies out after a few letters. */
+    SPARSE(
+            "ق ح ح ق غ ح ذ غ ژ ذ ظ چ ز ق ح ض",
+            "ق ذ ذ پ ف ص غ ف گ ص چ خ ق ق پ ط",
+            "ص ق غ ث ض ط ظ ص پ ذ ف ذ ث غ ع ذ",
+            "پ چ گ ز ح ح غ ث ع ع چ ص چ ز ض گ"
+    );
+
+    /** Number of boards per group; a power of two for cheap cycling. */
+    public static final int SIZE = 4;
+
+    private final String[] boards;
+
+    BoardCorpus(String... boards) {
+        this.boards = boards;
+    }
+
+    /**
+     * Returns a board of this group.
+     *
+     * @param index Any non-negative number; boards repeat every {@link #SIZE}
+     * @return Space-separated letters of a 4x4 board
+     */
+    public String board(int index) {
+        return boards[index & (SIZE - 1)];
+    }
+
+}
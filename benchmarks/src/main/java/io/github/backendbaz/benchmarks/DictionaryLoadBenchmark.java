@@ -0,0 +1,63 @@
+package io.github.backendbaz.benchmarks;
+
+import io.github.backendbaz.core.Dictionary;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to load the bundled dictionary.
+ * <ul>
+ *   <li><b>cold:</b> the first load in a fresh JVM, which is what an
+ *       application pays at start-up (class loading and interpreted code
+ *       included); every measurement is a new fork</li>
+ *   <li><b>warm:</b> repeated loads in a warmed-up JVM, i.e. the steady-state
+ *       cost of the parser and trie builder</li>
+ * </ul>
+ * Both are measured for the JSON word list and for the default path, which
+ * uses the precompiled snapshot when it is on the classpath.
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DictionaryLoadBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Fork(10)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public Dictionary coldLoadJson() throws IOException {
+        return Dictionary.builder().load(Dictionary.PATH).build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Fork(10)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    public Dictionary coldLoadDefault() throws IOException {
+        return Dictionary.builder().load().build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public Dictionary warmLoadJson() throws IOException {
+        return Dictionary.builder().load(Dictionary.PATH).build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Fork(2)
+    @Warmup(iterations = 5, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public Dictionary warmLoadDefault() throws IOException {
+        return Dictionary.builder().load().build();
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.github.backendbaz.benchmarks;
+
+import io.github.backendbaz.core.Dictionary;
+import io.github.backendbaz.core.Finder;
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import io.github.backendbaz.models.Word;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link Finder#findTopWords(Dictionary, int, String)} on the
+ * boards of {@link BoardCorpus}, by board density, number of requested words
+ * and with or without the high-score cell filter. Boards are parsed up front,
+ * so only the search is measured.
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FindTopWordsBenchmark {
+
+    @Param({"DENSE", "MIXED", "SPARSE"})
+    public BoardCorpus density;
+
+    @Param({"1", "10", "100"})
+    public int topN;
+
+    /** Empty for no filter, or the box number (1-16) of the high-score cell. */
+    @Param({"", "6"})
+    public String highPointLetter;
+
+    private Dictionary dictionary;
+    private final Finder[] finders = new Finder[BoardCorpus.SIZE];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InvalidLettersException {
+        dictionary = Dictionary.getDefault();
+        for (int i = 0; i < finders.length; i++)
+            finders[i] = new Finder(density.board(i));
+    }
+
+    @Benchmark
+    public List<Word> findTopWords() {
+        return finders[next++ & (BoardCorpus.SIZE - 1)]
+                .findTopWords(dictionary, topN, highPointLetter);
+    }
+
+}
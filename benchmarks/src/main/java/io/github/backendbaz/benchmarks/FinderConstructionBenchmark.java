@@ -0,0 +1,46 @@
+package io.github.backendbaz.benchmarks;
+
+import io.github.backendbaz.core.Finder;
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of parsing and validating a board, both for valid boards and for
+ * input that is rejected.
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(2)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FinderConstructionBenchmark {
+
+    /** Board with a non-Persian letter in the last cell. */
+    private static final String INVALID = "ا ت ش ن ی ن ا ش ن ع م ا د س ی s";
+
+    @Param({"DENSE", "MIXED", "SPARSE"})
+    public BoardCorpus density;
+
+    private int next;
+
+    @Benchmark
+    public Finder construct() throws InvalidLettersException {
+        return new Finder(density.board(next++));
+    }
+
+    @Benchmark
+    public InvalidLettersException rejectInvalid() {
+        try {
+            new Finder(INVALID);
+            throw new AssertionError("Board should have been rejected");
+        } catch (InvalidLettersException e) {
+            return e;
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.github.backendbaz.benchmarks;
+
+import io.github.backendbaz.core.Dictionary;
+import io.github.backendbaz.core.Trie;
+import org.openjdk.jmh.annotations.*;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory footprint of a loaded dictionary.
+ * <p>
+ * Every measurement reports two secondary results:
+ * {@code trieBytes}, the exact size of the trie's node table, and
+ * {@code retainedBytes}, the growth of the used heap across a full GC
+ * before and after loading, which also covers everything the dictionary
+ * keeps reachable. The latter is an estimate, so it is measured in fresh
+ * forks with nothing else running. The primary (time) result includes the
+ * forced collections; use {@link DictionaryLoadBenchmark} for load times.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(5)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class TrieFootprintBenchmark {
+
+    /** Bytes per trie node: {@code Trie.STRIDE} ints. */
+    private static final int NODE_BYTES = 4 * Integer.BYTES;
+
+    /** {@code json} for the word list, {@code default} for the snapshot. */
+    @Param({"json", "default"})
+    public String source;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long trieBytes;
+        public long retainedBytes;
+    }
+
+    @Benchmark
+    public void load(Footprint footprint) throws IOException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long before = usedAfterGc(memory);
+        Dictionary dictionary = source.equals("json") ?
+                Dictionary.builder().load(Dictionary.PATH).build() :
+                Dictionary.builder().load().build();
+        long after = usedAfterGc(memory);
+        Trie trie = dictionary.getTrie();
+        footprint.trieBytes = (long) trie.nodeCount() * NODE_BYTES;
+        footprint.retainedBytes = after - before;
+        Reference.reachabilityFence(dictionary);
+    }
+
+    private static long usedAfterGc(MemoryMXBean memory) {
+        // چند بار، چون یک System.gc() همیشه همه‌چیز را جمع نمی‌کند
+        for (int i = 0; i < 3; i++) System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+}
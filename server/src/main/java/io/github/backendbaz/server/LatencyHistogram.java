@@ -0,0 +1,96 @@
+package io.github.backendbaz.server;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of request latencies with power-of-two microsecond
+ * buckets.
+ * <p>
+ * Bucket {@code i} counts latencies of up to {@code 2^i - 1} microseconds
+ * (and more than the previous bucket's bound), so 64 buckets cover every
+ * duration with a relative error below 2x, and recording costs one atomic
+ * increment. Percentiles are reported as the upper bound of the bucket they
+ * fall into, capped by the largest latency seen.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+final class LatencyHistogram {
+
+    private final AtomicLongArray buckets = new AtomicLongArray(Long.SIZE);
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos Elapsed time in nanoseconds
+     */
+    void record(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(micros));
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Writes the current counts as fields of the generator's current object:
+     * count, mean, percentiles, maximum and the non-empty buckets.
+     *
+     * @param json Generator positioned inside an object
+     * @throws IOException If writing fails
+     */
+    void writeFields(JsonGenerator json) throws IOException {
+        long[] counts = new long[Long.SIZE];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long max = maxMicros.get();
+        json.writeNumberField("count", total);
+        json.writeNumberField("meanMicros", total == 0 ? 0 :
+                totalMicros.sum() / total);
+        json.writeNumberField("p50Micros", percentile(counts, total, 0.50, max));
+        json.writeNumberField("p90Micros", percentile(counts, total, 0.90, max));
+        json.writeNumberField("p99Micros", percentile(counts, total, 0.99, max));
+        json.writeNumberField("p999Micros", percentile(counts, total, 0.999, max));
+        json.writeNumberField("maxMicros", max);
+        json.writeArrayFieldStart("buckets");
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) continue;
+            json.writeStartObject();
+            json.writeNumberField("leMicros", upperBound(i));
+            json.writeNumberField("count", counts[i]);
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+    }
+
+    /**
+     * @return Upper bound of the bucket holding the given fraction of the
+     *         counts
+     */
+    private static long percentile(long[] counts, long total, double fraction,
+                                   long max) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(fraction * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(upperBound(i), max);
+        }
+        return max;
+    }
+
+    /** @return Largest latency, in microseconds, counted by bucket {@code i} */
+    private static long upperBound(int i) {
+        return i == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1;
+    }
+
+}
@@ -0,0 +1,243 @@
+package io.github.backendbaz.server;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.backendbaz.core.GridSize;
+import io.github.backendbaz.core.Point;
+import io.github.backendbaz.models.Bonus;
+import io.github.backendbaz.models.PathMode;
+import io.github.backendbaz.models.SolveRequest;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The parameters of a solve or batch request, read from a JSON body or a
+ * query string.
+ * <p>
+ * Request bodies are read with Jackson's streaming parser; unknown fields
+ * and values of the wrong type are rejected, like entries of a dictionary
+ * file. Every field is optional except the letters:
+ * </p>
+ * <pre>
+ * {
+ *   "letters": "ض ص ث ق ف غ ع ه خ ح ج چ ش س ی ب",   // or "boards": [...] for /batch
+ *   "rows": 4, "cols": 4,
+ *   "topN": 10,
+ *   "pathMode": "FIRST",
+ *   "requireBonus": false,
+ *   "bonuses": [{"row": 0, "col": 2, "kind": "LETTER", "multiplier": 2}]
+ * }
+ * </pre>
+ * <p>
+ * A query string accepts {@code letters}, {@code rows}, {@code cols},
+ * {@code topN} and {@code pathMode}.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+final class SolveJob {
+
+    /** Number of words returned when a request does not say. */
+    static final int DEFAULT_TOP_N = 10;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    String letters;
+    List<String> boards;
+    int rows = GridSize.CLASSIC.rows();
+    int cols = GridSize.CLASSIC.cols();
+    int topN = DEFAULT_TOP_N;
+    PathMode pathMode = PathMode.FIRST;
+    boolean requireBonus;
+    final List<Bonus> bonuses = new ArrayList<>();
+
+    private SolveJob() {}
+
+    /**
+     * Reads a JSON request body.
+     *
+     * @param body Request body
+     * @return The parameters
+     * @throws IOException              If the body is not a valid request
+     * @throws IllegalArgumentException If a value is out of range
+     */
+    static SolveJob fromJson(byte[] body) throws IOException {
+        SolveJob job = new SolveJob();
+        try (JsonParser parser = JSON.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT)
+                throw new JsonParseException(parser, "Request must be a JSON " +
+                        "object");
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "letters" -> job.letters = text(parser, value, field);
+                    case "boards" -> job.boards = texts(parser, value, field);
+                    case "rows" -> job.rows = integer(parser, value, field);
+                    case "cols" -> job.cols = integer(parser, value, field);
+                    case "topN" -> job.topN = integer(parser, value, field);
+                    case "pathMode" -> job.pathMode = pathMode(
+                            text(parser, value, field));
+                    case "requireBonus" -> {
+                        if (!value.isBoolean())
+                            throw new JsonParseException(parser, "requireBonus " +
+                                    "must be a boolean");
+                        job.requireBonus = parser.getBooleanValue();
+                    }
+                    case "bonuses" -> {
+                        if (value != JsonToken.START_ARRAY)
+                            throw new JsonParseException(parser, "bonuses must " +
+                                    "be an array");
+                        while (parser.nextToken() == JsonToken.START_OBJECT)
+                            job.bonuses.add(readBonus(parser));
+                        if (parser.currentToken() != JsonToken.END_ARRAY)
+                            throw new JsonParseException(parser, "Expected a " +
+                                    "bonus object");
+                    }
+                    default -> throw new JsonParseException(parser,
+                            "Unrecognized field \"" + field + "\"");
+                }
+            }
+            if (parser.nextToken() != null)
+                throw new JsonParseException(parser, "Unexpected content after " +
+                        "the request object");
+        }
+        return job;
+    }
+
+    /**
+     * Reads a query string such as
+     * {@code letters=ا+ب+...&topN=5}.
+     *
+     * @param query Raw (still encoded) query, or {@code null}
+     * @return The parameters
+     * @throws IllegalArgumentException If a parameter is unknown or invalid
+     */
+    static SolveJob fromQuery(String query) {
+        SolveJob job = new SolveJob();
+        if (query == null) return job;
+        for (int start = 0; start <= query.length(); ) {
+            int end = query.indexOf('&', start);
+            if (end < 0) end = query.length();
+            int equals = query.indexOf('=', start);
+            if (end > start) {
+                if (equals < 0 || equals > end)
+                    throw new IllegalArgumentException("Missing value of query " +
+                            "parameter: " + query.substring(start, end));
+                String name = decode(query.substring(start, equals));
+                String value = decode(query.substring(equals + 1, end));
+                switch (name) {
+                    case "letters" -> job.letters = value;
+                    case "rows" -> job.rows = parseInt(name, value);
+                    case "cols" -> job.cols = parseInt(name, value);
+                    case "topN" -> job.topN = parseInt(name, value);
+                    case "pathMode" -> job.pathMode = pathMode(value);
+                    default -> throw new IllegalArgumentException("Unknown query " +
+                            "parameter: " + name);
+                }
+            }
+            start = end + 1;
+        }
+        return job;
+    }
+
+    /**
+     * @return Board dimensions
+     * @throws IllegalArgumentException If the dimensions are invalid
+     */
+    GridSize size() {
+        return new GridSize(rows, cols);
+    }
+
+    /**
+     * @return The request applied to every board of the job
+     * @throws IllegalArgumentException If a value is invalid
+     */
+    SolveRequest request() {
+        SolveRequest request = SolveRequest.top(topN).withPathMode(pathMode);
+        for (Bonus bonus : bonuses) request = request.withBonus(bonus);
+        return requireBonus ? request.requiringBonus() : request;
+    }
+
+    /** Reads the fields of one bonus object. */
+    private static Bonus readBonus(JsonParser parser) throws IOException {
+        int row = -1;
+        int col = -1;
+        int multiplier = 0;
+        Bonus.Kind kind = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "row" -> row = integer(parser, value, field);
+                case "col" -> col = integer(parser, value, field);
+                case "multiplier" -> multiplier = integer(parser, value, field);
+                case "kind" -> {
+                    String name = text(parser, value, field);
+                    try {
+                        kind = Bonus.Kind.valueOf(name);
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Unknown bonus kind: " +
+                                name);
+                    }
+                }
+                default -> throw new JsonParseException(parser,
+                        "Unrecognized bonus field \"" + field + "\"");
+            }
+        }
+        return new Bonus(new Point(row, col), kind, multiplier);
+    }
+
+    private static String text(JsonParser parser, JsonToken value, String field)
+            throws IOException {
+        if (value != JsonToken.VALUE_STRING)
+            throw new JsonParseException(parser, field + " must be a string");
+        return parser.getText();
+    }
+
+    private static List<String> texts(JsonParser parser, JsonToken value,
+                                      String field) throws IOException {
+        if (value != JsonToken.START_ARRAY)
+            throw new JsonParseException(parser, field + " must be an array of " +
+                    "strings");
+        List<String> texts = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY)
+            texts.add(text(parser, token, field));
+        return texts;
+    }
+
+    private static int integer(JsonParser parser, JsonToken value, String field)
+            throws IOException {
+        if (value != JsonToken.VALUE_NUMBER_INT)
+            throw new JsonParseException(parser, field + " must be an integer");
+        return parser.getIntValue();
+    }
+
+    private static int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be an integer");
+        }
+    }
+
+    private static PathMode pathMode(String name) {
+        try {
+            return PathMode.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown path mode: " + name);
+        }
+    }
+
+    private static String decode(String text) {
+        return URLDecoder.decode(text, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,630 @@
+package io.github.backendbaz.server;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.backendbaz.core.Board;
+import io.github.backendbaz.core.CancellationToken;
+import io.github.backendbaz.core.Dictionary;
+import io.github.backendbaz.core.GridSize;
+import io.github.backendbaz.core.Point;
+import io.github.backendbaz.core.Solver;
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import io.github.backendbaz.models.SolveRequest;
+import io.github.backendbaz.models.SolveResult;
+import io.github.backendbaz.models.Word;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded HTTP service that solves boards against one shared, preloaded
+ * {@link Dictionary}.
+ * <p>
+ * Built on the JDK's {@code com.sun.net.httpserver} only: every exchange is
+ * handled on its own virtual thread, boards are solved by one shared
+ * {@link Solver}, and responses are written with Jackson's streaming
+ * generator. The searches themselves run on a fixed pool of
+ * {@code maxConcurrent} platform threads: a search never blocks, so on
+ * virtual threads it would hold a carrier thread until it ends and keep the
+ * exchanges waiting on it (and their timeouts) from running. The pool's
+ * threads also keep their search scratch state for good. The server needs
+ * no other service and binds to the loopback interface unless told
+ * otherwise, so it can be started on a developer machine and load tested
+ * directly.
+ * </p>
+ *
+ * <h2>Endpoints:</h2>
+ * <ul>
+ *   <li>{@code POST /solve}: one board, body as described in
+ *       {@link SolveJob}; {@code GET /solve?letters=...&topN=...} for quick
+ *       tests. Answers {@code {"letters", "complete", "words": [{"word",
+ *       "point", "path": [{"row", "col"}]}]}}</li>
+ *   <li>{@code POST /batch}: {@code "boards"} instead of {@code "letters"},
+ *       the other fields applied to every board. Answers one entry per board
+ *       in input order, with {@code "error"} instead of {@code "words"} for
+ *       an invalid board</li>
+ *   <li>{@code GET /health}: status, word count and current load</li>
+ *   <li>{@code GET /metrics/latency}: latency histograms and rejection
+ *       counters of the solve and batch endpoints</li>
+ * </ul>
+ *
+ * <h2>Overload and Timeouts:</h2>
+ * <p>
+ * At most {@code maxConcurrent} solve or batch requests are worked on at
+ * once; a request beyond that is rejected immediately with {@code 503} and a
+ * {@code Retry-After} header rather than queued, so latency stays bounded
+ * under overload. A request that takes longer than the timeout is answered
+ * with {@code 504}. Its work is interrupted (a search stops within a
+ * fraction of a millisecond, a batch before its next board) and keeps its
+ * concurrency slot until it has actually stopped, so timed-out requests
+ * cannot pile up behind the limit.
+ * </p>
+ * <p>
+ * With a {@link Builder#searchBudget(Duration) search budget}, a board whose
+ * search takes longer than the budget is answered with the best words found
+ * so far and {@code "complete": false} instead ({@link
+ * Solver#solve(Board, SolveRequest, Duration, CancellationToken)}), so a
+ * budget well below the timeout caps the latency of single boards.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * try (SolveServer server = SolveServer.builder(Dictionary.getDefault())
+ *         .port(8080)
+ *         .maxConcurrent(8)
+ *         .timeout(Duration.ofSeconds(1))
+ *         .start()) {
+ *     // curl 'http://localhost:8080/solve?letters=...&topN=5'
+ * }
+ *
+ * // از خط فرمان
+ * // mvn -f server/pom.xml exec:java -Dexec.args=8080
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Solver
+ */
+public final class SolveServer implements AutoCloseable {
+
+    /** Largest accepted request body, in bytes. */
+    public static final int MAX_BODY_BYTES = 1 << 20;
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * Token of the searches; they are stopped by interrupting their thread
+     * instead.
+     */
+    private static final CancellationToken NOT_CANCELLED = new CancellationToken();
+
+    private final HttpServer server;
+
+    /** Virtual threads handling the exchanges. */
+    private final ExecutorService executor;
+
+    /** Platform threads running the searches, one per concurrency slot. */
+    private final ExecutorService workers;
+    private final Solver solver;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long timeoutNanos;
+    private final Duration searchBudget;
+    private final int maxBatchSize;
+
+    /** Number of words in the dictionary, for the health endpoint. */
+    private final int words;
+
+    private final Metrics solveMetrics = new Metrics();
+    private final Metrics batchMetrics = new Metrics();
+
+    private SolveServer(Builder builder) throws IOException {
+        solver = new Solver(builder.dictionary).warmUp(builder.warmUp);
+        words = builder.dictionary.getTrie().wordCount();
+        maxConcurrent = builder.maxConcurrent;
+        permits = new Semaphore(maxConcurrent);
+        timeoutNanos = builder.timeout.toNanos();
+        // بدون بودجه، جستجو تا پایان مهلت درخواست ادامه می‌یابد
+        searchBudget = builder.searchBudget != null ? builder.searchBudget :
+                builder.timeout;
+        maxBatchSize = builder.maxBatchSize;
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        workers = Executors.newFixedThreadPool(maxConcurrent, Thread.ofPlatform()
+                .name("solve-server-", 0).daemon().factory());
+        server = HttpServer.create(builder.address, builder.backlog);
+        server.setExecutor(executor);
+        server.createContext("/solve", exchange -> handle(exchange, "/solve",
+                solveMetrics, this::solve, "GET", "POST"));
+        server.createContext("/batch", exchange -> handle(exchange, "/batch",
+                batchMetrics, this::batch, "POST"));
+        server.createContext("/health", exchange -> handle(exchange, "/health",
+                null, ignored -> this::health, "GET"));
+        server.createContext("/metrics/latency", exchange -> handle(exchange,
+                "/metrics/latency", null, ignored -> this::latency, "GET"));
+        server.start();
+    }
+
+    /**
+     * Starts configuring a server for a dictionary.
+     *
+     * @param dictionary Preloaded dictionary shared by every request
+     * @return New builder with the defaults: {@code localhost:8080}, one
+     *         concurrent solve per processor, a 2 second timeout, batches
+     *         of up to 1000 boards and no warm-up
+     */
+    public static Builder builder(Dictionary dictionary) {
+        return new Builder(dictionary);
+    }
+
+    /**
+     * Starts a server on {@code localhost} with the default dictionary.
+     *
+     * @param args Optional port (default {@code 8080})
+     * @throws IOException If the dictionary cannot be loaded or the port
+     *                     cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        SolveServer server = builder(Dictionary.getDefault()).port(port)
+                .warmUp(2_000).start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Listening on http://localhost:" + server.port());
+    }
+
+    /** @return Address the server is bound to */
+    public InetSocketAddress address() {
+        return server.getAddress();
+    }
+
+    /** @return Port the server is bound to (useful after binding port 0) */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, lets exchanges in progress finish for up to
+     * a second, then interrupts the remaining work.
+     */
+    @Override
+    public void close() {
+        server.stop(1);
+        workers.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /** Reads a solve request from the query string or body. */
+    private Callable<byte[]> solve(HttpExchange exchange) throws IOException {
+        SolveJob job = "GET".equals(exchange.getRequestMethod()) ?
+                SolveJob.fromQuery(exchange.getRequestURI().getRawQuery()) :
+                SolveJob.fromJson(readBody(exchange));
+        Board board = Board.parse(job.letters, job.size());
+        SolveRequest request = job.request();
+        return () -> {
+            SolveResult found = solver.solve(board, request, searchBudget,
+                    NOT_CANCELLED);
+            return write(json -> {
+                json.writeStartObject();
+                json.writeStringField("letters", board.toString());
+                writeWords(json, found);
+                json.writeEndObject();
+            });
+        };
+    }
+
+    /** Reads a batch request from the body. */
+    private Callable<byte[]> batch(HttpExchange exchange) throws IOException {
+        SolveJob job = SolveJob.fromJson(readBody(exchange));
+        if (job.boards == null)
+            throw new IllegalArgumentException("boards are required");
+        if (job.boards.size() > maxBatchSize)
+            throw new IllegalArgumentException("At most " + maxBatchSize +
+                    " boards are allowed per batch");
+        GridSize size = job.size();
+        SolveRequest request = job.request();
+        List<String> boards = job.boards;
+        return () -> write(json -> {
+            json.writeStartObject();
+            json.writeArrayFieldStart("results");
+            for (String letters : boards) {
+                // بعد از پایان مهلت، تخته‌ی بعدی حل نمی‌شود
+                if (Thread.currentThread().isInterrupted())
+                    throw new InterruptedException();
+                json.writeStartObject();
+                json.writeStringField("letters", letters);
+                try {
+                    writeWords(json, solver.solve(Board.parse(letters, size),
+                            request, searchBudget, NOT_CANCELLED));
+                } catch (InvalidLettersException e) {
+                    json.writeStringField("error", e.getMessage());
+                }
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        });
+    }
+
+    private byte[] health() throws IOException {
+        return write(json -> {
+            json.writeStartObject();
+            json.writeStringField("status", "UP");
+            json.writeNumberField("words", words);
+            json.writeNumberField("inFlight", maxConcurrent -
+                    permits.availablePermits());
+            json.writeNumberField("maxConcurrent", maxConcurrent);
+            json.writeEndObject();
+        });
+    }
+
+    private byte[] latency() throws IOException {
+        return write(json -> {
+            json.writeStartObject();
+            json.writeNumberField("timeoutMillis",
+                    TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            solveMetrics.write(json, "solve");
+            batchMetrics.write(json, "batch");
+            json.writeEndObject();
+        });
+    }
+
+    /**
+     * Runs one exchange: checks the path and method, reads the request,
+     * takes a concurrency slot (for solving endpoints), runs the work under
+     * the timeout and sends the response.
+     *
+     * @param metrics Counters of a solving endpoint, or {@code null} for
+     *                endpoints that are neither limited nor timed out
+     */
+    private void handle(HttpExchange exchange, String path, Metrics metrics,
+                        Endpoint endpoint, String... methods) throws IOException {
+        long start = System.nanoTime();
+        try (exchange) {
+            if (!exchange.getRequestURI().getPath().equals(path)) {
+                send(exchange, 404, error("Not found"));
+                return;
+            }
+            if (!List.of(methods).contains(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", String.join(", ", methods));
+                send(exchange, 405, error("Method not allowed"));
+                return;
+            }
+            Callable<byte[]> work;
+            try {
+                work = endpoint.prepare(exchange);
+            } catch (BodyTooLargeException e) {
+                send(exchange, 413, error(e.getMessage()));
+                return;
+            } catch (JsonProcessingException e) {
+                send(exchange, 400, error(e.getOriginalMessage()));
+                return;
+            } catch (IllegalArgumentException | InvalidLettersException e) {
+                send(exchange, 400, error(e.getMessage()));
+                return;
+            }
+            if (metrics == null) {
+                send(exchange, 200, call(work));
+                return;
+            }
+            if (!permits.tryAcquire()) {
+                metrics.rejected.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, 503, error("Too many concurrent requests"));
+                return;
+            }
+            run(exchange, metrics, work);
+        } finally {
+            if (metrics != null) metrics.latency.record(System.nanoTime() - start);
+        }
+    }
+
+    /** Runs solving work holding a slot that is released when the work ends. */
+    private void run(HttpExchange exchange, Metrics metrics, Callable<byte[]> work)
+            throws IOException {
+        Future<byte[]> future;
+        try {
+            future = workers.submit(() -> {
+                try {
+                    return work.call();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            send(exchange, 503, error("Server is shutting down"));
+            return;
+        }
+        try {
+            send(exchange, 200, future.get(timeoutNanos, TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            metrics.timedOut.increment();
+            send(exchange, 504, error("Request timed out after " +
+                    TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms"));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IllegalArgumentException invalid) {
+                send(exchange, 400, error(invalid.getMessage()));
+            } else {
+                metrics.failed.increment();
+                send(exchange, 500, error("Internal error"));
+            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            send(exchange, 503, error("Server is shutting down"));
+        }
+    }
+
+    /** Runs cheap work on the exchange's own thread. */
+    private static byte[] call(Callable<byte[]> work) throws IOException {
+        try {
+            return work.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /** Reads the request body, refusing bodies over {@link #MAX_BODY_BYTES}. */
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_BODY_BYTES + 1);
+            if (bytes.length > MAX_BODY_BYTES)
+                throw new BodyTooLargeException();
+            return bytes;
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type",
+                "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static void writeWords(JsonGenerator json, SolveResult result)
+            throws IOException {
+        json.writeBooleanField("complete", result.complete());
+        json.writeArrayFieldStart("words");
+        for (Word word : result.words()) {
+            json.writeStartObject();
+            json.writeStringField("word", word.word());
+            json.writeNumberField("point", word.point());
+            json.writeArrayFieldStart("path");
+            for (Point point : word.path()) {
+                json.writeStartObject();
+                json.writeNumberField("row", point.row());
+                json.writeNumberField("col", point.col());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+    }
+
+    private static byte[] error(String message) throws IOException {
+        return write(json -> {
+            json.writeStartObject();
+            json.writeStringField("error", message);
+            json.writeEndObject();
+        });
+    }
+
+    /** Renders a response body with a streaming generator. */
+    private static byte[] write(Content content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (JsonGenerator json = JSON.createGenerator(bytes)) {
+            content.writeTo(json);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the response", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Reads an exchange's request and returns the work that answers it. */
+    @FunctionalInterface
+    private interface Endpoint {
+        Callable<byte[]> prepare(HttpExchange exchange) throws IOException;
+    }
+
+    /** Writes a response document. */
+    @FunctionalInterface
+    private interface Content {
+        void writeTo(JsonGenerator json) throws IOException, InterruptedException;
+    }
+
+    /** Latencies and outcome counters of one solving endpoint. */
+    private static final class Metrics {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder timedOut = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void write(JsonGenerator json, String name) throws IOException {
+            json.writeObjectFieldStart(name);
+            json.writeNumberField("rejected", rejected.sum());
+            json.writeNumberField("timedOut", timedOut.sum());
+            json.writeNumberField("failed", failed.sum());
+            latency.writeFields(json);
+            json.writeEndObject();
+        }
+    }
+
+    /** Thrown for request bodies over {@link #MAX_BODY_BYTES}. */
+    private static final class BodyTooLargeException extends IOException {
+        BodyTooLargeException() {
+            super("Request body is larger than " + MAX_BODY_BYTES + " bytes");
+        }
+    }
+
+    /**
+     * Configures and starts a {@link SolveServer}.
+     *
+     * @author BackendBaz (Amirhossein Emadi)
+     * @version 2.2.0
+     */
+    public static final class Builder {
+
+        private final Dictionary dictionary;
+        private InetSocketAddress address =
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 8080);
+        private int backlog;
+        private int maxConcurrent = Runtime.getRuntime().availableProcessors();
+        private Duration timeout = Duration.ofSeconds(2);
+        private Duration searchBudget;
+        private int maxBatchSize = 1000;
+        private int warmUp;
+
+        private Builder(Dictionary dictionary) {
+            this.dictionary = Objects.requireNonNull(dictionary,
+                    "dictionary is null");
+        }
+
+        /**
+         * Binds the loopback interface on a port.
+         *
+         * @param port Port number, or {@code 0} for any free port
+         * @return This builder (fluent interface)
+         */
+        public Builder port(int port) {
+            return address(new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    port));
+        }
+
+        /**
+         * Binds an explicit address, e.g. all interfaces.
+         *
+         * @param address Socket address to bind
+         * @return This builder (fluent interface)
+         */
+        public Builder address(InetSocketAddress address) {
+            this.address = Objects.requireNonNull(address, "address is null");
+            return this;
+        }
+
+        /**
+         * Sets the TCP accept backlog.
+         *
+         * @param backlog Queued connections, or {@code 0} for the system default
+         * @return This builder (fluent interface)
+         */
+        public Builder backlog(int backlog) {
+            this.backlog = backlog;
+            return this;
+        }
+
+        /**
+         * Limits how many solve and batch requests are worked on at once;
+         * further requests are rejected with {@code 503} until one finishes.
+         *
+         * @param maxConcurrent Positive number of requests
+         * @return This builder (fluent interface)
+         * @throws IllegalArgumentException If the limit is not positive
+         */
+        public Builder maxConcurrent(int maxConcurrent) {
+            if (maxConcurrent <= 0)
+                throw new IllegalArgumentException("maxConcurrent must be " +
+                        "positive number");
+            this.maxConcurrent = maxConcurrent;
+            return this;
+        }
+
+        /**
+         * Sets how long a solve or batch request may take before it is
+         * answered with {@code 504}.
+         *
+         * @param timeout Positive duration
+         * @return This builder (fluent interface)
+         * @throws IllegalArgumentException If the timeout is not positive
+         */
+        public Builder timeout(Duration timeout) {
+            if (timeout.isNegative() || timeout.isZero())
+                throw new IllegalArgumentException("timeout must be positive");
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Limits how long the search of one board may take; a board that
+         * takes longer is answered with the best words found so far and
+         * {@code "complete": false}. Without a budget a search may take until
+         * its request times out.
+         *
+         * @param searchBudget Positive duration, usually well below the timeout
+         * @return This builder (fluent interface)
+         * @throws IllegalArgumentException If the budget is not positive
+         */
+        public Builder searchBudget(Duration searchBudget) {
+            if (searchBudget.isNegative() || searchBudget.isZero())
+                throw new IllegalArgumentException("searchBudget must be positive");
+            this.searchBudget = searchBudget;
+            return this;
+        }
+
+        /**
+         * Limits the number of boards in one batch request.
+         *
+         * @param maxBatchSize Positive number of boards
+         * @return This builder (fluent interface)
+         * @throws IllegalArgumentException If the limit is not positive
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize <= 0)
+                throw new IllegalArgumentException("maxBatchSize must be " +
+                        "positive number");
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Solves generated boards before the address is bound, so that the
+         * first requests are not served by the interpreter (a cold server
+         * answers them several times slower).
+         *
+         * @param solves Number of boards, or {@code 0} for no warm-up
+         * @return This builder (fluent interface)
+         * @throws IllegalArgumentException If {@code solves} is negative
+         * @see Solver#warmUp(int)
+         */
+        public Builder warmUp(int solves) {
+            if (solves < 0)
+                throw new IllegalArgumentException("solves must not be negative");
+            this.warmUp = solves;
+            return this;
+        }
+
+        /**
+         * Binds the address and starts serving.
+         *
+         * @return The running server
+         * @throws IOException If the address cannot be bound
+         */
+        public SolveServer start() throws IOException {
+            return new SolveServer(this);
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+module io.github.backendbaz.bazambazi.wordfinder.server {
+
+    // وابستگی‌های اصلی
+    requires io.github.backendbaz.bazambazi.wordfinder;
+    requires jdk.httpserver;
+
+    // پکیج‌های عمومی
+    exports io.github.backendbaz.server;
+}
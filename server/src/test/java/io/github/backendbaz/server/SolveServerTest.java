@@ -0,0 +1,154 @@
+package io.github.backendbaz.server;
+
+import io.github.backendbaz.core.Board;
+import io.github.backendbaz.core.BoardGenerator;
+import io.github.backendbaz.core.Dictionary;
+import io.github.backendbaz.core.GridSize;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SolveServerTest {
+
+    private static final String LETTERS = "ا ت ش ن ی ن ا ش ن ع م ا د س ی ف";
+
+    @Test
+    @DisplayName("Solve endpoint answers with the top words, invalid boards with 400")
+    public void solve_localServer_returnsWordsAsJson() throws IOException {
+        try (SolveServer server = SolveServer.builder(Dictionary.getDefault())
+                .port(0).start()) {
+            HttpURLConnection ok = open(server, "/solve?topN=1&letters=" +
+                    URLEncoder.encode(LETTERS, StandardCharsets.UTF_8));
+            assertEquals(200, ok.getResponseCode());
+            String body = read(ok.getInputStream());
+            assertTrue(body.contains("\"word\":\"اتشنشانی\""));
+            assertTrue(body.contains("\"complete\":true"));
+
+            HttpURLConnection invalid = open(server, "/solve?letters=ا");
+            assertEquals(400, invalid.getResponseCode());
+            assertTrue(read(invalid.getErrorStream()).contains("letters required"));
+
+            HttpURLConnection health = open(server, "/health");
+            assertEquals(200, health.getResponseCode());
+            assertTrue(read(health.getInputStream()).contains("\"status\":\"UP\""));
+        }
+    }
+
+    @Test
+    @DisplayName("JSON bodies are accepted by the solve and batch endpoints")
+    public void solveAndBatch_jsonBody_returnsWordsPerBoard() throws IOException {
+        try (SolveServer server = SolveServer.builder(Dictionary.getDefault())
+                .port(0).start()) {
+            HttpURLConnection solve = post(server, "/solve",
+                    "{\"letters\": \"" + LETTERS + "\", \"topN\": 1}");
+            assertEquals(200, solve.getResponseCode());
+            assertTrue(read(solve.getInputStream())
+                    .contains("\"word\":\"اتشنشانی\""));
+
+            HttpURLConnection batch = post(server, "/batch",
+                    "{\"boards\": [\"" + LETTERS + "\", \"ا\"], \"topN\": 1}");
+            assertEquals(200, batch.getResponseCode());
+            String body = read(batch.getInputStream());
+            assertTrue(body.startsWith("{\"results\":[{\"letters\":\"" + LETTERS +
+                    "\",\"complete\":true,\"words\":[{\"word\":\"اتشنشانی\""));
+            assertTrue(body.contains("{\"letters\":\"ا\",\"error\":"));
+
+            HttpURLConnection missing = post(server, "/batch", "{\"topN\": 1}");
+            assertEquals(400, missing.getResponseCode());
+            assertTrue(read(missing.getErrorStream()).contains("boards are required"));
+        }
+    }
+
+    @Test
+    @DisplayName("A saturated server rejects further requests with 503 and Retry-After")
+    public void solve_saturatedServer_rejectsWith503() throws Exception {
+        Dictionary dictionary = Dictionary.getDefault();
+        ExecutorService client = Executors.newVirtualThreadPerTaskExecutor();
+        try (SolveServer server = SolveServer.builder(dictionary).port(0)
+                .maxConcurrent(1).timeout(Duration.ofSeconds(30)).start()) {
+            // یک دسته‌ی سنگین تنها جای خالی سرور را پر می‌کند
+            client.submit(() -> post(server, "/batch",
+                    heavyBatch(dictionary, 1000)).getResponseCode());
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (!read(open(server, "/health").getInputStream())
+                    .contains("\"inFlight\":1")) {
+                assertTrue(System.nanoTime() < deadline, "Batch never started");
+                Thread.sleep(1);
+            }
+            HttpURLConnection rejected = open(server, "/solve?letters=" +
+                    URLEncoder.encode(LETTERS, StandardCharsets.UTF_8));
+            assertEquals(503, rejected.getResponseCode());
+            assertEquals("1", rejected.getHeaderField("Retry-After"));
+            assertTrue(read(open(server, "/metrics/latency").getInputStream())
+                    .contains("\"solve\":{\"rejected\":1,\"timedOut\":0"));
+        } finally {
+            client.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A request over the timeout is answered with 504 and counted")
+    public void batch_tinyTimeout_answers504() throws IOException {
+        Dictionary dictionary = Dictionary.getDefault();
+        try (SolveServer server = SolveServer.builder(dictionary).port(0)
+                .timeout(Duration.ofMillis(1)).start()) {
+            HttpURLConnection timedOut = post(server, "/batch",
+                    heavyBatch(dictionary, 200));
+            assertEquals(504, timedOut.getResponseCode());
+            assertTrue(read(timedOut.getErrorStream()).contains("timed out"));
+
+            HttpURLConnection metrics = open(server, "/metrics/latency");
+            assertEquals(200, metrics.getResponseCode());
+            String body = read(metrics.getInputStream());
+            assertTrue(body.startsWith("{\"timeoutMillis\":1,"));
+            assertTrue(body.contains("\"batch\":{\"rejected\":0,\"timedOut\":1," +
+                    "\"failed\":0,"));
+        }
+    }
+
+    /** A batch body of large dense boards that takes a while to solve. */
+    private static String heavyBatch(Dictionary dictionary, int boards) {
+        return new BoardGenerator(dictionary, 7).boards(boards,
+                        BoardGenerator.Mode.DENSE, new GridSize(8, 8)).stream()
+                .map(Board::toString)
+                .collect(Collectors.joining("\", \"",
+                        "{\"rows\": 8, \"cols\": 8, \"topN\": 100, \"boards\": [\"", "\"]}"));
+    }
+
+    private static HttpURLConnection open(SolveServer server, String path)
+            throws IOException {
+        return (HttpURLConnection) URI.create("http://localhost:" +
+                server.port() + path).toURL().openConnection();
+    }
+
+    private static HttpURLConnection post(SolveServer server, String path,
+                                          String body) throws IOException {
+        HttpURLConnection connection = open(server, path);
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return connection;
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        try (stream) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.github.backendbaz.core;
+
+/**
+ * The fixed set of 32 Persian letters that can appear on a game board, each
+ * mapped to a dense integer code in the range {@code 0..31}.
+ * <p>
+ * Codes are assigned in ascending Unicode order of the letters, so comparing
+ * two code sequences gives the same result as comparing the corresponding
+ * strings. Because there are exactly 32 letters, any set of letters fits in
+ * a single {@code int} bitmask, which {@link Trie} uses for its child tables.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * int code = Alphabet.codeOf('ب');   // 1
+ * char letter = Alphabet.letterOf(code); // 'ب'
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Trie
+ */
+public final class Alphabet {
+
+    /** Number of letters in the alphabet. */
+    public static final int SIZE = 32;
+
+    /** All letters, sorted by their Unicode value (index = letter code). */
+    private static final String LETTERS = "ابتثجحخدذرزسشصضطظعغفقلمنهوپچژکگی";
+
+    /**
+     * Tile value of each letter (index = letter code). Every word in the
+     * bundled dictionary is worth exactly the sum of its letters' values.
+     */
+    private static final byte[] VALUES = {
+            // ا ب ت ث ج ح خ د ذ ر ز س ش ص ض ط ظ ع غ ف ق ل م ن ه و پ چ ژ ک گ ی
+            1, 1, 1, 3, 2, 3, 2, 1, 3, 1, 2, 1, 2, 3, 3, 3, 3, 2, 3, 2, 2, 1, 1, 1, 1, 1, 2, 3, 3, 2, 2, 1
+    };
+
+    /** First character covered by {@link #CODES}. */
+    private static final char BASE = LETTERS.charAt(0);
+
+    /** Lookup table from {@code c - BASE} to letter code, {@code -1} if absent. */
+    private static final byte[] CODES =
+            new byte[LETTERS.charAt(SIZE - 1) - BASE + 1];
+
+    static {
+        java.util.Arrays.fill(CODES, (byte) -1);
+        for (int code = 0; code < SIZE; code++)
+            CODES[LETTERS.charAt(code) - BASE] = (byte) code;
+    }
+
+    private Alphabet() {}
+
+    /**
+     * Returns the code of a letter.
+     *
+     * @param letter Character to look up
+     * @return Letter code in {@code 0..31}, or {@code -1} if the character is
+     *         not a board letter
+     */
+    public static int codeOf(char letter) {
+        int index = letter - BASE;
+        return index >= 0 && index < CODES.length ? CODES[index] : -1;
+    }
+
+    /**
+     * Returns the letter for a code.
+     *
+     * @param code Letter code in {@code 0..31}
+     * @return The Persian letter
+     * @throws IndexOutOfBoundsException If the code is out of range
+     */
+    public static char letterOf(int code) {
+        return LETTERS.charAt(code);
+    }
+
+    /**
+     * Returns the tile value of a letter, as printed on the game's tiles.
+     *
+     * @param code Letter code in {@code 0..31}
+     * @return Value of the letter ({@code 1..3})
+     * @throws IndexOutOfBoundsException If the code is out of range
+     */
+    public static int valueOf(int code) {
+        return VALUES[code];
+    }
+
+}
@@ -0,0 +1,160 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import io.github.backendbaz.models.BatchResult;
+import io.github.backendbaz.models.SolveRequest;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Solves large batches of boards against one shared {@link Dictionary}.
+ * <p>
+ * A fixed number of worker threads (virtual threads by default) pull boards
+ * from the batch one at a time and write each result into its input
+ * position, so:
+ * </p>
+ * <ul>
+ *   <li>results come back in input order</li>
+ *   <li>at most {@code concurrency} boards are solved at once</li>
+ *   <li>each worker reuses one search scratch state for all of its boards
+ *       (through a {@link Solver})</li>
+ *   <li>an invalid board yields a failed {@link BatchResult} instead of
+ *       aborting the batch</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * BatchFinder batch = new BatchFinder(dictionary);
+ * List<BatchResult> results = batch.solveAll(boards, 5, "");
+ * for (BatchResult result : results)
+ *     if (result.isSuccess()) System.out.println(result.words());
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Finder
+ */
+public final class BatchFinder {
+
+    private final Solver solver;
+    private final int concurrency;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Creates a batch finder with one virtual-thread worker per available
+     * processor.
+     *
+     * @param dictionary Preloaded word dictionary, shared by all workers
+     */
+    public BatchFinder(Dictionary dictionary) {
+        this(dictionary, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a batch finder with virtual-thread workers.
+     *
+     * @param dictionary  Preloaded word dictionary, shared by all workers
+     * @param concurrency Maximum number of boards solved at once
+     */
+    public BatchFinder(Dictionary dictionary, int concurrency) {
+        this(dictionary, concurrency, Thread.ofVirtual().name("batch-finder-", 0)
+                .factory());
+    }
+
+    /**
+     * Creates a batch finder whose workers are created by the given factory,
+     * e.g. {@code Thread.ofPlatform().factory()} for a bounded platform pool.
+     *
+     * @param dictionary    Preloaded word dictionary, shared by all workers
+     * @param concurrency   Maximum number of boards solved at once
+     * @param threadFactory Factory for the worker threads
+     * @throws IllegalArgumentException If {@code concurrency} is not positive
+     */
+    public BatchFinder(Dictionary dictionary, int concurrency,
+                       ThreadFactory threadFactory) {
+        if (concurrency <= 0)
+            throw new IllegalArgumentException("concurrency must be positive " +
+                    "number");
+        solver = new Solver(dictionary);
+        this.concurrency = concurrency;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Solves every board of a batch.
+     *
+     * @param boards Board inputs, each as accepted by {@link Finder#Finder(String)}
+     * @param topN Number of top results to return per board
+     * @param highPointLetter a high-score letter to filter list of words
+     * @return One result per board, in input order
+     * @throws InterruptedException If the calling thread is interrupted while
+     *         waiting; the workers are interrupted and stop after their
+     *         current board
+     */
+    public List<BatchResult> solveAll(Collection<String> boards, int topN,
+                                      String highPointLetter)
+            throws InterruptedException {
+        return solveAll(boards, Finder.toRequest(topN, highPointLetter,
+                Grid.CLASSIC));
+    }
+
+    /**
+     * Solves every board of a batch with the same request.
+     *
+     * @param boards Board inputs, each as accepted by {@link Finder#Finder(String)}
+     * @param request Number of words, bonus cells and filter, applied to every board
+     * @return One result per board, in input order
+     * @throws InterruptedException If the calling thread is interrupted while
+     *         waiting; the workers are interrupted and stop after their
+     *         current board
+     * @throws IllegalArgumentException If a bonus cell lies outside the grid
+     */
+    public List<BatchResult> solveAll(Collection<String> boards,
+                                      SolveRequest request)
+            throws InterruptedException {
+        String[] inputs = boards.toArray(String[]::new);
+        BatchResult[] results = new BatchResult[inputs.length];
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            try {
+                int i;
+                while (failure.get() == null && !Thread.currentThread()
+                        .isInterrupted() && (i = next.getAndIncrement()) <
+                        inputs.length)
+                    results[i] = solve(inputs[i], request);
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        };
+        Thread[] workers = new Thread[Math.min(concurrency, inputs.length)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = threadFactory.newThread(worker);
+            workers[i].start();
+        }
+        try {
+            for (Thread thread : workers) thread.join();
+        } catch (InterruptedException e) {
+            for (Thread thread : workers) thread.interrupt();
+            throw e;
+        }
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtime) throw runtime;
+        if (error instanceof Error fatal) throw fatal;
+        return List.of(results);
+    }
+
+    /** Solves one board, isolating validation failures. */
+    private BatchResult solve(String letters, SolveRequest request) {
+        try {
+            return new BatchResult(letters, solver.solve(Board.parse(letters),
+                    request), null);
+        } catch (InvalidLettersException e) {
+            return new BatchResult(letters, List.of(), e);
+        }
+    }
+
+}
@@ -0,0 +1,218 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import java.util.Arrays;
+
+/**
+ * The letters of one game board, parsed once into {@link Alphabet} codes.
+ * <p>
+ * A board is a compact immutable value: one byte per cell in row-major order
+ * (16 bytes for the classic 4x4 board) plus its {@link GridSize}. Parsing
+ * scans the input a single time, looking every letter up in the alphabet's
+ * code table, so no regular expression, substring or letter array is
+ * involved; the only allocation of a valid board is the board itself.
+ * Boards are meant to be solved by a {@link Solver}, and can be reused across
+ * solves, requests and threads.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * Board board = Board.parse("ض ص ث ق ف غ ع ه خ ح ج چ ش س ی ب");
+ * List<Word> words = solver.solve(board, SolveRequest.top(10));
+ *
+ * // جدول 5x5
+ * Board large = Board.parse(letters25, new GridSize(5, 5));
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Solver
+ */
+public final class Board {
+
+    /** Geometry of the board. */
+    private final Grid geometry;
+
+    /** Letter code per cell (row-major order). */
+    private final byte[] codes;
+
+    private Board(Grid geometry, byte[] codes) {
+        this.geometry = geometry;
+        this.codes = codes;
+    }
+
+    /**
+     * Parses a classic 4x4 board.
+     *
+     * @param letters 16 Persian letters, row by row, separated by whitespace
+     * @return The board
+     * @throws InvalidLettersException If the input is null or blank, has the
+     *                                 wrong number of letters, or contains a
+     *                                 token that is not a single board letter
+     */
+    public static Board parse(CharSequence letters) throws InvalidLettersException {
+        return parse(letters, Grid.CLASSIC);
+    }
+
+    /**
+     * Parses a board of any size.
+     *
+     * @param letters {@code size.cells()} Persian letters, row by row,
+     *                separated by whitespace
+     * @param size    Board dimensions
+     * @return The board
+     * @throws InvalidLettersException If the input is null or blank, has the
+     *                                 wrong number of letters, or contains a
+     *                                 token that is not a single board letter
+     */
+    public static Board parse(CharSequence letters, GridSize size)
+            throws InvalidLettersException {
+        return parse(letters, Grid.of(size));
+    }
+
+    /**
+     * Parses letters for a known geometry; validation failures are reported
+     * in the order null/blank input, letter count, invalid letter.
+     */
+    static Board parse(CharSequence letters, Grid geometry)
+            throws InvalidLettersException {
+        if (letters == null)
+            throw new InvalidLettersException("Input cannot be null or empty");
+        byte[] codes = new byte[geometry.cells];
+        int count = 0;
+        int invalidStart = -1;
+        int invalidEnd = -1;
+        int length = letters.length();
+        for (int i = 0; i < length; ) {
+            if (isSeparator(letters.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < length && !isSeparator(letters.charAt(i))) i++;
+            int code = i - start == 1 ? Alphabet.codeOf(letters.charAt(start)) : -1;
+            // اولین حرف نامعتبر گزارش می‌شود، ولی تعداد حروف اولویت دارد
+            if (code < 0 && invalidStart < 0) {
+                invalidStart = start;
+                invalidEnd = i;
+            }
+            if (count < codes.length && code >= 0) codes[count] = (byte) code;
+            count++;
+        }
+        if (count == 0)
+            throw new InvalidLettersException("Input cannot be null or empty");
+        if (count != geometry.cells)
+            throw new InvalidLettersException("Exactly " + geometry.cells +
+                    " letters required");
+        if (invalidStart >= 0)
+            throw new InvalidLettersException("Invalid Persian letter: " +
+                    letters.subSequence(invalidStart, invalidEnd));
+        return new Board(geometry, codes);
+    }
+
+    /** @return Whether a character separates letters (any whitespace) */
+    private static boolean isSeparator(char c) {
+        return c == ' ' || Character.isWhitespace(c);
+    }
+
+    /**
+     * Creates a board from letter codes.
+     *
+     * @param size  Board dimensions
+     * @param codes Letter code ({@code 0..31}) per cell, row by row; copied
+     * @return The board
+     * @throws IllegalArgumentException If the number of codes does not match
+     *                                  the size or a code is out of range
+     */
+    public static Board of(GridSize size, byte[] codes) {
+        Grid geometry = Grid.of(size);
+        if (codes.length != geometry.cells)
+            throw new IllegalArgumentException("Expected " + geometry.cells +
+                    " letter codes but got " + codes.length);
+        for (byte code : codes)
+            if (code < 0 || code >= Alphabet.SIZE)
+                throw new IllegalArgumentException("Invalid letter code: " + code);
+        return new Board(geometry, codes.clone());
+    }
+
+    /** @return Board dimensions */
+    public GridSize size() {
+        return geometry.size;
+    }
+
+    /**
+     * Returns the letter code of a cell.
+     *
+     * @param row Row index (0-based)
+     * @param col Column index (0-based)
+     * @return Letter code in {@code 0..31}
+     * @throws IndexOutOfBoundsException If the cell is outside the board
+     */
+    public int codeAt(int row, int col) {
+        if (row < 0 || row >= geometry.rows || col < 0 || col >= geometry.cols)
+            throw new IndexOutOfBoundsException("Cell is outside the board: (" +
+                    row + ", " + col + ")");
+        return codes[row * geometry.cols + col];
+    }
+
+    /**
+     * Returns the letter of a cell.
+     *
+     * @param row Row index (0-based)
+     * @param col Column index (0-based)
+     * @return The Persian letter
+     * @throws IndexOutOfBoundsException If the cell is outside the board
+     */
+    public char letterAt(int row, int col) {
+        return Alphabet.letterOf(codeAt(row, col));
+    }
+
+    /** @return Geometry of the board */
+    Grid geometry() {
+        return geometry;
+    }
+
+    /**
+     * Copies the letter codes into a search grid.
+     *
+     * @param grid Destination with at least one entry per cell
+     */
+    void copyTo(int[] grid) {
+        for (int cell = 0; cell < codes.length; cell++) grid[cell] = codes[cell];
+    }
+
+    /**
+     * Compares the size and letters of two boards.
+     *
+     * @param other Object to compare with
+     * @return {@code true} if {@code other} is a board of the same size with
+     *         the same letter on every cell
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Board board && geometry == board.geometry &&
+                Arrays.equals(codes, board.codes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * geometry.size.hashCode() + Arrays.hashCode(codes);
+    }
+
+    /**
+     * Returns the letters in the format {@link #parse(CharSequence, GridSize)}
+     * accepts.
+     *
+     * @return Space-separated letters, row by row
+     */
+    @Override
+    public String toString() {
+        StringBuilder letters = new StringBuilder(codes.length * 2);
+        for (int cell = 0; cell < codes.length; cell++) {
+            if (cell > 0) letters.append(' ');
+            letters.append(Alphabet.letterOf(codes[cell]));
+        }
+        return letters.toString();
+    }
+
+}
@@ -0,0 +1,245 @@
+package io.github.backendbaz.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded generator of random boards whose letters follow the letter
+ * frequencies of a {@link Dictionary}, for benchmarks, load tests and
+ * {@link Solver#warmUp(int) warm-up}.
+ * <p>
+ * The frequencies count every occurrence of a letter in the dictionary's
+ * words. A generator with the same dictionary and seed always produces the
+ * same sequence of boards, on every JDK ({@link Random} is fully specified),
+ * so a corpus can be regenerated instead of checked in. Generators are not
+ * thread-safe; give each thread its own.
+ * </p>
+ *
+ * <h2>Modes:</h2>
+ * <ul>
+ *   <li>{@link Mode#DENSE}: letters drawn by frequency, like a real game;
+ *       boards with plenty of words</li>
+ *   <li>{@link Mode#SPARSE}: every letter of the dictionary equally likely,
+ *       so rare letters are as common as frequent ones; few words and many
+ *       dead ends</li>
+ *   <li>{@link Mode#ADVERSARIAL}: only the few most frequent letters, so
+ *       long words have a great many paths; the worst case for the search</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * BoardGenerator generator = new BoardGenerator(dictionary, 42);
+ * Board board = generator.next(BoardGenerator.Mode.DENSE);
+ * generator.writeCorpus(Path.of("boards.txt"), 10_000,
+ *         BoardGenerator.Mode.DENSE, GridSize.CLASSIC);
+ * List<Board> corpus = BoardGenerator.readCorpus(Path.of("boards.txt"),
+ *         GridSize.CLASSIC);
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Board
+ */
+public final class BoardGenerator {
+
+    /** How letters are drawn; see the class comment. */
+    public enum Mode {
+        DENSE,
+        SPARSE,
+        ADVERSARIAL
+    }
+
+    /** Number of letters {@link Mode#ADVERSARIAL} boards are made of. */
+    static final int ADVERSARIAL_LETTERS = 6;
+
+    private final long seed;
+    private final Random random;
+
+    /** Cumulative letter weights per mode (index = mode ordinal). */
+    private final long[][] cumulative = new long[Mode.values().length][];
+
+    /**
+     * Creates a generator for a dictionary.
+     *
+     * @param dictionary Dictionary whose letter frequencies to follow
+     * @param seed       Seed of the board sequence
+     */
+    public BoardGenerator(Dictionary dictionary, long seed) {
+        this.seed = seed;
+        random = new Random(seed);
+        long[] frequencies = new long[Alphabet.SIZE];
+        Trie trie = dictionary.getTrie();
+        count(trie, Trie.ROOT, frequencies);
+        // دیکشنری خالی: همه‌ی حروف هم‌وزن
+        if (Arrays.stream(frequencies).allMatch(frequency -> frequency == 0))
+            Arrays.fill(frequencies, 1);
+        long[] sparse = new long[Alphabet.SIZE];
+        for (int code = 0; code < Alphabet.SIZE; code++)
+            sparse[code] = frequencies[code] == 0 ? 0 : 1;
+        long[] adversarial = new long[Alphabet.SIZE];
+        Integer[] codes = new Integer[Alphabet.SIZE];
+        for (int code = 0; code < Alphabet.SIZE; code++) codes[code] = code;
+        Arrays.sort(codes, (a, b) -> Long.compare(frequencies[b], frequencies[a]));
+        for (int k = 0; k < ADVERSARIAL_LETTERS; k++)
+            adversarial[codes[k]] = frequencies[codes[k]];
+        cumulative[Mode.DENSE.ordinal()] = accumulate(frequencies);
+        cumulative[Mode.SPARSE.ordinal()] = accumulate(sparse);
+        cumulative[Mode.ADVERSARIAL.ordinal()] = accumulate(adversarial);
+    }
+
+    /**
+     * Writes a corpus from the command line, e.g. for a load test.
+     *
+     * @param args Output file, number of boards, and optionally the mode
+     *             (default {@code DENSE}), seed (default {@code 1}) and size
+     *             as {@code ROWSxCOLS} (default {@code 4x4})
+     * @throws IOException If the dictionary cannot be loaded or the file
+     *                     cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 5)
+            throw new IllegalArgumentException("Usage: BoardGenerator <output " +
+                    "file> <count> [mode] [seed] [ROWSxCOLS]");
+        Mode mode = args.length > 2 ? Mode.valueOf(args[2]) : Mode.DENSE;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+        GridSize size = GridSize.CLASSIC;
+        if (args.length > 4) {
+            int x = args[4].indexOf('x');
+            size = new GridSize(Integer.parseInt(args[4].substring(0, x)),
+                    Integer.parseInt(args[4].substring(x + 1)));
+        }
+        new BoardGenerator(Dictionary.getDefault(), seed).writeCorpus(
+                Path.of(args[0]), Integer.parseInt(args[1]), mode, size);
+    }
+
+    /**
+     * Generates a classic 4x4 board.
+     *
+     * @param mode How letters are drawn
+     * @return Next board of the sequence
+     */
+    public Board next(Mode mode) {
+        return next(mode, GridSize.CLASSIC);
+    }
+
+    /**
+     * Generates a board of any size.
+     *
+     * @param mode How letters are drawn
+     * @param size Board dimensions
+     * @return Next board of the sequence
+     */
+    public Board next(Mode mode, GridSize size) {
+        long[] weights = cumulative[mode.ordinal()];
+        long total = weights[Alphabet.SIZE - 1];
+        byte[] codes = new byte[size.cells()];
+        for (int cell = 0; cell < codes.length; cell++) {
+            long target = (long) (random.nextDouble() * total);
+            // اولین حرفی که وزن تجمعی‌اش از هدف بیشتر است
+            int code = 0;
+            while (weights[code] <= target) code++;
+            codes[cell] = (byte) code;
+        }
+        return Board.of(size, codes);
+    }
+
+    /**
+     * Generates several boards.
+     *
+     * @param count Number of boards
+     * @param mode  How letters are drawn
+     * @param size  Board dimensions
+     * @return The next {@code count} boards of the sequence
+     */
+    public List<Board> boards(int count, Mode mode, GridSize size) {
+        List<Board> boards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) boards.add(next(mode, size));
+        return boards;
+    }
+
+    /**
+     * Writes the next {@code count} boards to a text file, one board per line
+     * in the format {@link Board#parse(CharSequence, GridSize)} accepts,
+     * after a {@code #} comment line naming the seed, mode and size. Written
+     * by a new generator, the same arguments always give the same file.
+     *
+     * @param file  Target file, replaced if it exists
+     * @param count Number of boards
+     * @param mode  How letters are drawn
+     * @param size  Board dimensions
+     * @throws IOException If the file cannot be written
+     */
+    public void writeCorpus(Path file, int count, Mode mode, GridSize size)
+            throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file,
+                StandardCharsets.UTF_8)) {
+            writer.write("# seed=" + seed + " mode=" + mode + " size=" +
+                    size.rows() + "x" + size.cols() + " count=" + count);
+            writer.newLine();
+            for (int i = 0; i < count; i++) {
+                writer.write(next(mode, size).toString());
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Reads a corpus written by {@link #writeCorpus}; blank lines and lines
+     * starting with {@code #} are skipped.
+     *
+     * @param file Corpus file
+     * @param size Board dimensions
+     * @return The boards, in file order
+     * @throws IOException If the file cannot be read or a line is not a
+     *                     valid board (the message names the line)
+     */
+    public static List<Board> readCorpus(Path file, GridSize size)
+            throws IOException {
+        List<Board> boards = new ArrayList<>();
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank() || line.startsWith("#")) continue;
+            try {
+                boards.add(Board.parse(line, size));
+            } catch (RuntimeException e) {
+                throw new IOException(file + ":" + (i + 1) + ": " +
+                        e.getMessage(), e);
+            }
+        }
+        return boards;
+    }
+
+    /**
+     * Adds up the letters of every word below a node.
+     *
+     * @return Number of words below the node, the node included
+     */
+    private static long count(Trie trie, int node, long[] frequencies) {
+        long words = trie.isEndOfWord(node) ? 1 : 0;
+        for (int mask = trie.childMask(node); mask != 0; mask &= mask - 1) {
+            int code = Integer.numberOfTrailingZeros(mask);
+            long below = count(trie, trie.child(node, code), frequencies);
+            frequencies[code] += below;
+            words += below;
+        }
+        return words;
+    }
+
+    private static long[] accumulate(long[] weights) {
+        long[] cumulative = new long[weights.length];
+        long sum = 0;
+        for (int code = 0; code < weights.length; code++)
+            cumulative[code] = sum += weights[code];
+        return cumulative;
+    }
+
+}
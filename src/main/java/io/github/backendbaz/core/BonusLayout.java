@@ -0,0 +1,241 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.Bonus;
+import io.github.backendbaz.models.SolveRequest;
+import java.util.Arrays;
+
+/**
+ * The bonuses and {@link ScoringStrategy} of a {@link SolveRequest} resolved
+ * against one board, in the per-cell form {@link WordSearch} works with.
+ * <p>
+ * Each cell gets the points it adds to a word (its letter's value plus any
+ * letter bonus) and the word multiplier it applies, so a search accumulates
+ * a path's score one cell at a time and only combines the running sum and
+ * product with the word's dictionary point when it finds a word
+ * ({@link #score(int, long, long, int)}).
+ * </p>
+ * <p>
+ * Besides scoring paths, a layout gives the search two bounds:
+ * </p>
+ * <ul>
+ *   <li>{@link #bound(int, long, int)}: the highest score any word below a
+ *       trie node can reach, whatever bonus cells its path happens to pass
+ *       through. It only depends on the node's prefix, not on the path, so a
+ *       word is either pruned on all its paths or on none</li>
+ *   <li>{@link #distance(int)}: how many more letters a path ending on a cell
+ *       needs at least to reach a required bonus cell, so branches that can
+ *       never qualify are cut as soon as the trie has no word long enough</li>
+ * </ul>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+final class BonusLayout {
+
+    /** Factor of the dictionary point. */
+    private final long pointWeight;
+
+    /** Points each cell adds: letter value plus letter bonus. */
+    private final long[] points;
+
+    /** Letter value of each cell, without bonuses. */
+    private final long[] values;
+
+    /** Word multiplier of each cell ({@code 1} without a word bonus). */
+    private final int[] wordMultiplier;
+
+    /** Cells a qualifying path must touch (one of them), or {@code 0}. */
+    private final long requiredMask;
+
+    /** King-move distance from each cell to the nearest required cell. */
+    private final int[] distance;
+
+    /** Bonus per word length (index = length). */
+    private final long[] lengthBonus;
+
+    /** Highest letter value on this board, and the sum of all of them. */
+    private final long maxValue;
+    private final long valueSum;
+
+    /** Sum of every letter bonus's extra points on this board. */
+    private final long maxExtra;
+
+    /** Highest length bonus of any word on this board. */
+    private final long maxLengthBonus;
+
+    /** Product of every word multiplier on this board. */
+    private final long maxMultiplier;
+
+    /**
+     * Resolves a request's bonuses and scoring.
+     *
+     * @param grid    Board geometry
+     * @param board   Letter code per cell
+     * @param request Request whose bonuses to resolve
+     * @throws IllegalArgumentException If a bonus lies outside the grid, the
+     *                                  scoring has negative values, or a score
+     *                                  could overflow
+     */
+    BonusLayout(Grid grid, int[] board, SolveRequest request) {
+        ScoringStrategy scoring = request.scoring();
+        pointWeight = scoring.pointWeight();
+        points = new long[grid.cells];
+        values = new long[grid.cells];
+        wordMultiplier = new int[grid.cells];
+        distance = new int[grid.cells];
+        lengthBonus = new long[grid.cells + 1];
+        Arrays.fill(wordMultiplier, 1);
+        long mask = 0;
+        long extra = 0;
+        long multiplier = 1;
+        for (int cell = 0; cell < grid.cells; cell++) {
+            values[cell] = scoring.letterValue(board[cell]);
+            points[cell] = values[cell];
+            if (values[cell] < 0 || pointWeight < 0)
+                throw new IllegalArgumentException("Scoring values must not " +
+                        "be negative");
+        }
+        for (Bonus bonus : request.bonuses()) {
+            int row = bonus.cell().row();
+            int col = bonus.cell().col();
+            if (row < 0 || row >= grid.rows || col < 0 || col >= grid.cols)
+                throw new IllegalArgumentException("Bonus cell is outside the " +
+                        "grid: " + bonus.cell());
+            int cell = row * grid.cols + col;
+            mask |= 1L << cell;
+            if (bonus.kind() == Bonus.Kind.LETTER) {
+                int value = scoring.bonusValue(board[cell]);
+                if (value < 0) throw new IllegalArgumentException("Scoring " +
+                        "values must not be negative");
+                points[cell] += (long) (bonus.multiplier() - 1) * value;
+                extra += (long) (bonus.multiplier() - 1) * value;
+            } else {
+                wordMultiplier[cell] = bonus.multiplier();
+                // اشباع به جای سرریز؛ بررسی پایین آن را رد می‌کند
+                multiplier = multiplier > Long.MAX_VALUE / bonus.multiplier() ?
+                        Long.MAX_VALUE : multiplier * bonus.multiplier();
+            }
+        }
+        long most = 0;
+        long letterSum = 0;
+        for (int cell = 0; cell < grid.cells; cell++) {
+            most = Math.max(most, values[cell]);
+            letterSum += values[cell];
+        }
+        long longest = 0;
+        for (int length = WordSearch.MIN_LENGTH; length <= grid.cells; length++) {
+            lengthBonus[length] = scoring.lengthBonus(length);
+            if (lengthBonus[length] < 0)
+                throw new IllegalArgumentException("Scoring values must not " +
+                        "be negative");
+            longest = Math.max(longest, lengthBonus[length]);
+        }
+        try {
+            Math.addExact(Math.multiplyExact(Math.addExact(Math.multiplyExact(
+                    pointWeight, Trie.MAX_POINT_VALUE), letterSum + extra), multiplier),
+                    longest);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Bonus multipliers or scoring " +
+                    "values are too large");
+        }
+        requiredMask = request.bonusRequired() ? mask : 0;
+        maxValue = most;
+        valueSum = letterSum;
+        maxExtra = extra;
+        maxLengthBonus = longest;
+        maxMultiplier = multiplier;
+        for (int cell = 0; cell < grid.cells; cell++) {
+            int nearest = Integer.MAX_VALUE;
+            for (long rest = requiredMask; rest != 0; rest &= rest - 1)
+                nearest = Math.min(nearest, grid.distance(cell,
+                        Long.numberOfTrailingZeros(rest)));
+            distance[cell] = nearest;
+        }
+    }
+
+    /**
+     * Checks whether a word's score can depend on the path it is found on.
+     *
+     * @return {@code false} if every path of a word scores the same
+     */
+    boolean scoresPaths() {
+        return maxExtra != 0 || maxMultiplier != 1;
+    }
+
+    /** @return Bitmask of the required cells, or {@code 0} if any path qualifies */
+    long requiredMask() {
+        return requiredMask;
+    }
+
+    /**
+     * @return Minimum number of further cells from {@code cell} to a
+     *         required cell ({@link Integer#MAX_VALUE} if there is none)
+     */
+    int distance(int cell) {
+        return distance[cell];
+    }
+
+    /** @return Points {@code cell} adds to the words whose path passes it */
+    long points(int cell) {
+        return points[cell];
+    }
+
+    /** @return Value of the letter on {@code cell}, without its letter bonus */
+    long value(int cell) {
+        return values[cell];
+    }
+
+    /** @return Word multiplier of {@code cell} ({@code 1} without a word bonus) */
+    int multiplier(int cell) {
+        return wordMultiplier[cell];
+    }
+
+    /**
+     * Scores a word from the totals accumulated along its path.
+     *
+     * @param point      Dictionary point of the word
+     * @param sum        Sum of {@link #points(int)} over the path
+     * @param multiplier Product of {@link #multiplier(int)} over the path
+     * @param length     Number of cells in the path
+     * @return The word's score on this path
+     */
+    long score(int point, long sum, long multiplier, int length) {
+        return (pointWeight * point + sum) * multiplier + lengthBonus[length];
+    }
+
+    /**
+     * Scores a path.
+     *
+     * @param point  Dictionary point of the word
+     * @param path   Cells of the path
+     * @param length Number of cells in the path
+     * @return The word's score on this path
+     */
+    long score(int point, int[] path, int length) {
+        long sum = 0;
+        long multiplier = 1;
+        for (int i = 0; i < length; i++) {
+            sum += points[path[i]];
+            multiplier *= wordMultiplier[path[i]];
+        }
+        return score(point, sum, multiplier, length);
+    }
+
+    /**
+     * Returns an upper bound on the score of any path of any word below a
+     * trie node.
+     *
+     * @param maxPoint Highest dictionary point below the node
+     * @param value    Sum of the letter values ({@link #value(int)}) of the
+     *                 node's prefix
+     * @param height   Most letters a word below the node adds to the prefix
+     * @return Score bound
+     */
+    long bound(int maxPoint, long value, int height) {
+        // یک مسیر از هر خانه حداکثر یک بار می‌گذرد
+        long letters = Math.min(valueSum, value + height * maxValue);
+        return (pointWeight * maxPoint + letters + maxExtra) * maxMultiplier +
+                maxLengthBonus;
+    }
+
+}
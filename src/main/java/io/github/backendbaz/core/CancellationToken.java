@@ -0,0 +1,41 @@
+package io.github.backendbaz.core;
+
+/**
+ * Flag through which one thread asks a running solve on another thread to
+ * stop early.
+ * <p>
+ * A solve with a time budget checks its token along with its deadline, every
+ * few thousand trie nodes, and returns the best words found so far once the
+ * token is cancelled. Cancelling is permanent; one token can stop any number
+ * of solves, e.g. every board of a batch a client has given up on.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * CancellationToken token = new CancellationToken();
+ * executor.submit(() -> finder.findTopWords(dictionary, request,
+ *         Duration.ofMillis(50), token));
+ * // ...
+ * token.cancel();
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Finder#findTopWords(Dictionary, io.github.backendbaz.models.SolveRequest,
+ *      java.time.Duration, CancellationToken)
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    /** Asks every solve checking this token to stop. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /** @return {@code true} once {@link #cancel()} has been called */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+}
@@ -1,35 +1,72 @@
 package io.github.backendbaz.core;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import io.github.backendbaz.dto.WordDto;
+import io.github.backendbaz.models.LoadStats;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 
 /**
- * Represents an in-memory dictionary loaded from a JSON resource, supporting word lookup
+ * Represents an in-memory dictionary loaded from JSON, supporting word lookup
  * and prefix-based searches via a trie data structure.
  * <p>
- * The dictionary initializes by loading word entries from a JSON file where each entry
+ * The dictionary initializes by loading word entries from a JSON classpath resource,
+ * file, URL or stream, where each entry
  * consists of a word and its associated point value. After loading, words are indexed
- * in both a hash map (for O(1) point lookups) and a trie (for efficient prefix searches).
+ * in a compact {@link Trie} keyed by {@link Alphabet} letter codes; each word's point is
+ * stored on its terminal node, so the same structure serves both point lookups and
+ * prefix searches.
  * </p>
+ * <p>
+ * Words containing characters outside the board alphabet can never be formed on a
+ * board and are skipped while loading.
+ * </p>
+ * <p>
+ * For fast start-up the trie can also be loaded from a precompiled binary
+ * {@link DictionarySnapshot}, which the build generates next to the JSON resource.
+ * </p>
+ * <p>
+ * A {@link Builder#minimized() minimized} dictionary stores the trie as a
+ * DAWG, sharing the nodes of common suffixes; for the bundled word list that
+ * takes less than half the memory, at the cost of a slightly slower search.
+ * </p>
+ *
+ * <h2>Thread Safety:</h2>
+ * A dictionary built by a {@link Builder} is deeply immutable: its only
+ * state is a read-only {@link Trie}, so a single instance can be shared by
+ * any number of threads without locking.
+ * {@link #getDefault()} returns such a process-wide instance. A dictionary
+ * created with {@link #Dictionary()} can still be filled by the deprecated
+ * {@code load} methods, as in earlier versions; each load swaps in a new
+ * trie, so concurrent searches see either the old or the new words.
  *
  * <h2>Typical Usage:</h2>
  * <pre>{@code
- * Dictionary dictionary = new Dictionary();
- * dictionary.load(Dictionary.PATH);
+ * // Shared instance (precompiled snapshot when available, JSON otherwise)
+ * Dictionary dictionary = Dictionary.getDefault();
+ *
+ * // Own instance from several sources
+ * Dictionary custom = Dictionary.builder()
+ *         .load(Dictionary.PATH)
+ *         .load(Path.of("extra-words.json"))
+ *         .build();
+ *
+ * // Shared suffixes stored once, for many solvers per host
+ * Dictionary compact = Dictionary.builder().minimized().load().build();
  *
  * // Get points for a word
  * Long points = dictionary.getPoint("example");
  *
- * // Access trie root for prefix searches
- * TrieNode root = dictionary.getTrieRoot();
+ * // Access the trie for prefix searches
+ * Trie trie = dictionary.getTrie();
  * }</pre>
  *
  * @author BackendBaz (Amirhossein Emadi)
@@ -37,18 +74,6 @@ import java.util.Map;
  */
 public class Dictionary {
 
-    /**
-     * Internal storage for word-point pairs.
-     * Key: Word (case-sensitive)
-     * Value: Associated point value
-     */
-    private final Map<String, Long> wordMap = new HashMap<>();
-
-    /**
-     * Root node of the trie structure used for prefix-based searches.
-     */
-    private final TrieNode trieRoot = new TrieNode();
-
     /**
      * Default path to the dictionary JSON resource in classpath.
      * <p>
@@ -58,69 +83,242 @@ public class Dictionary {
     public static final String PATH = "/dictionary/words.json";
 
     /**
-     * Loads and parses dictionary data from the specified JSON resource.
+     * Default path to the precompiled dictionary snapshot in classpath.
      * <p>
-     * The JSON file must contain an array of objects with fields:
-     * {@code { "word": "عمادی", "point": 6 }}
+     * Generated from {@value #PATH} during the Maven build.
      * </p>
+     */
+    public static final String SNAPSHOT_PATH = "/dictionary/words.bin";
+
+    /** Shared, thread-safe parser factory; callers keep ownership of their streams. */
+    private static final JsonFactory JSON = new JsonFactory()
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    /** Process-wide default instance, loaded on first use. */
+    private static volatile Dictionary defaultInstance;
+
+    /**
+     * Trie holding every loaded word and its point value; replaced as a whole
+     * by the legacy {@code load} methods.
+     */
+    private volatile Trie trie;
+
+    /** Whether the legacy {@code load} methods may replace the trie. */
+    private final boolean loadable;
+
+    /**
+     * Creates an empty dictionary, to be filled by the {@code load} methods.
+     */
+    public Dictionary() {
+        trie = Trie.EMPTY;
+        loadable = true;
+    }
+
+    /**
+     * Wraps an already built trie.
      *
-     * <h3>Loading Process:</h3>
-     * <ol>
-     *   <li>Opens resource stream from classpath</li>
-     *   <li>Parses JSON using Jackson ObjectMapper</li>
-     *   <li>Populates word-point map</li>
-     *   <li>Builds trie structure for word prefixes</li>
-     * </ol>
+     * @param trie Immutable trie
+     */
+    Dictionary(Trie trie) {
+        this.trie = trie;
+        loadable = false;
+    }
+
+    /**
+     * Returns the process-wide default dictionary, loading it on first use
+     * exactly like {@link #load()}. Every caller gets the same immutable
+     * instance; if loading fails, the next call tries again.
      *
-     * @param resource Absolute path to JSON resource in classpath (e.g., {@value #PATH})
-     * @return Current dictionary instance (fluent interface)
-     * @throws IOException If the resource is not found or JSON parsing fails
+     * @return Shared default dictionary
+     * @throws IOException If the default dictionary cannot be loaded
      */
-    public Dictionary load(String resource) throws IOException {
-        InputStream inputStream = getClass().getResourceAsStream(resource);
-        if (inputStream == null) throw new IOException("Dictionary file not found");
-        ObjectMapper mapper = new ObjectMapper();
-        try (InputStreamReader reader = new InputStreamReader(inputStream,
-                StandardCharsets.UTF_8)) {
-            var entries = mapper.readValue(reader,
-                    new TypeReference<List<WordDto>>() {});
-            for (var entry : entries) {
-                wordMap.put(entry.word(), entry.point());
-                insertIntoTrie(entry.word());
+    public static Dictionary getDefault() throws IOException {
+        Dictionary instance = defaultInstance;
+        if (instance == null) {
+            synchronized (Dictionary.class) {
+                instance = defaultInstance;
+                if (instance == null)
+                    defaultInstance = instance = builder().load().build();
             }
         }
-        return this;
+        return instance;
+    }
+
+    /**
+     * Creates a builder for loading a dictionary from one or more sources.
+     *
+     * @return New, empty builder
+     */
+    public static Builder builder() {
+        return new Builder(Trie.EMPTY);
     }
 
     /**
-     * Inserts a word into the trie structure character-by-character.
+     * Loads the default dictionary into this dictionary.
      * <p>
-     * This method is automatically called during dictionary loading.
+     * Like every {@code load} method, this adds the loaded words to this
+     * dictionary and returns it, and only works on dictionaries created with
+     * {@link #Dictionary()}; dictionaries from a {@link Builder},
+     * {@link #getDefault()} or a {@link DictionaryManager} are immutable.
      * </p>
      *
-     * @param word Word to insert into trie (non-null)
+     * @return This dictionary (fluent interface)
+     * @throws IOException If neither resource can be loaded
+     * @throws UnsupportedOperationException If this dictionary is immutable
+     * @see Builder#load()
+     * @deprecated Use {@link #getDefault()} for the shared default dictionary,
+     *             or {@code Dictionary.builder().load().build()}
      */
-    private void insertIntoTrie(String word) {
-        TrieNode current = trieRoot;
-        for (char c : word.toCharArray()) {
-            String ch = String.valueOf(c);
-            current = current.getChildren().computeIfAbsent(ch, k ->
-                    new TrieNode());
-        }
-        current.setEndOfWord(true);
+    @Deprecated(since = "2.2.0")
+    public synchronized Dictionary load() throws IOException {
+        trie = extend().load().trie;
+        return this;
+    }
+
+    /**
+     * Loads and parses dictionary data from the specified JSON resource.
+     *
+     * @param resource Absolute path to JSON resource in classpath (e.g., {@value #PATH})
+     * @return This dictionary (fluent interface)
+     * @throws IOException If the resource is not found or JSON parsing fails
+     * @throws UnsupportedOperationException If this dictionary is immutable
+     * @see Builder#load(String)
+     * @deprecated Use {@link Builder#load(String)} on {@link #builder()}; like
+     *             {@link #load()}, this only works on mutable dictionaries
+     */
+    @Deprecated(since = "2.2.0")
+    public synchronized Dictionary load(String resource) throws IOException {
+        trie = extend().load(resource).trie;
+        return this;
+    }
+
+    /**
+     * Loads dictionary data from a JSON file.
+     *
+     * @param file JSON file in the format described in {@link Builder#load(String)}
+     * @return This dictionary (fluent interface)
+     * @throws IOException If the file is not found or JSON parsing fails
+     * @throws UnsupportedOperationException If this dictionary is immutable
+     * @see Builder#load(Path)
+     * @deprecated Use {@link Builder#load(Path)} on {@link #builder()}; like
+     *             {@link #load()}, this only works on mutable dictionaries
+     */
+    @Deprecated(since = "2.2.0")
+    public synchronized Dictionary load(Path file) throws IOException {
+        trie = extend().load(file).trie;
+        return this;
     }
 
     /**
-     * Provides access to the root node of the constructed trie.
+     * Loads dictionary data from a JSON document at a URL.
+     *
+     * @param url Location of a JSON document
+     * @return This dictionary (fluent interface)
+     * @throws IOException If the URL cannot be read or JSON parsing fails
+     * @throws UnsupportedOperationException If this dictionary is immutable
+     * @see Builder#load(URL)
+     * @deprecated Use {@link Builder#load(URL)} on {@link #builder()}; like
+     *             {@link #load()}, this only works on mutable dictionaries
+     */
+    @Deprecated(since = "2.2.0")
+    public synchronized Dictionary load(URL url) throws IOException {
+        trie = extend().load(url).trie;
+        return this;
+    }
+
+    /**
+     * Loads dictionary data from a JSON byte stream. The stream is not closed.
+     *
+     * @param inputStream JSON content
+     * @return This dictionary (fluent interface)
+     * @throws IOException If reading or JSON parsing fails
+     * @throws UnsupportedOperationException If this dictionary is immutable
+     * @see Builder#load(InputStream)
+     * @deprecated Use {@link Builder#load(InputStream)} on {@link #builder()};
+     *             like {@link #load()}, this only works on mutable dictionaries
+     */
+    @Deprecated(since = "2.2.0")
+    public synchronized Dictionary load(InputStream inputStream) throws IOException {
+        trie = extend().load(inputStream).trie;
+        return this;
+    }
+
+    /**
+     * Loads dictionary data from a JSON character stream. The reader is not
+     * closed.
+     *
+     * @param reader JSON content
+     * @return This dictionary (fluent interface)
+     * @throws IOException If reading or JSON parsing fails
+     * @throws UnsupportedOperationException If this dictionary is immutable
+     * @see Builder#load(Reader)
+     * @deprecated Use {@link Builder#load(Reader)} on {@link #builder()}; like
+     *             {@link #load()}, this only works on mutable dictionaries
+     */
+    @Deprecated(since = "2.2.0")
+    public synchronized Dictionary load(Reader reader) throws IOException {
+        trie = extend().load(reader).trie;
+        return this;
+    }
+
+    /**
+     * Loads a precompiled binary dictionary snapshot from the file system.
+     *
+     * @param snapshot Snapshot file written by {@link DictionarySnapshot}
+     * @return This dictionary (fluent interface)
+     * @throws IOException If the file cannot be read or is not a valid snapshot
+     * @throws UnsupportedOperationException If this dictionary is immutable
+     * @see Builder#loadSnapshot(Path)
+     * @deprecated Use {@link Builder#loadSnapshot(Path)} on {@link #builder()};
+     *             like {@link #load()}, this only works on mutable dictionaries
+     */
+    @Deprecated(since = "2.2.0")
+    public synchronized Dictionary loadSnapshot(Path snapshot) throws IOException {
+        trie = extend().loadSnapshot(snapshot).trie;
+        return this;
+    }
+
+    /**
+     * Starts a builder from this dictionary's words for a legacy load.
+     */
+    private Builder extend() {
+        if (!loadable)
+            throw new UnsupportedOperationException("This dictionary is " +
+                    "immutable; use Dictionary.builder() to load words");
+        return new Builder(trie);
+    }
+
+    /**
+     * Provides access to the constructed trie.
      * <p>
      * Used for traversing the trie to implement prefix-based searches
      * (e.g., finding all words starting with "app").
      * </p>
      *
-     * @return Root node of the dictionary trie
+     * @return Dictionary trie (immutable; a later legacy load replaces it
+     *         rather than changing it)
+     */
+    public Trie getTrie() {
+        return trie;
+    }
+
+    /**
+     * Provides the dictionary trie as a tree of {@link TrieNode}s, the form
+     * used before version 2.2.0.
+     * <p>
+     * The nodes are copied from {@link #getTrie()} on every call, which takes
+     * far more time and memory than the compact trie; changing them does not
+     * change this dictionary.
+     * </p>
+     *
+     * @return Root node of a copy of the dictionary trie
+     * @deprecated Use {@link #getTrie()}; this method will be removed in the
+     *             next major version
      */
+    @Deprecated(since = "2.2.0", forRemoval = true)
+    @SuppressWarnings("removal")
     public TrieNode getTrieRoot() {
-        return trieRoot;
+        return TrieNode.copyOf(trie, Trie.ROOT);
     }
 
     /**
@@ -130,7 +328,320 @@ public class Dictionary {
      * @return Point value if word exists, {@code null} otherwise
      */
     public Long getPoint(String word) {
-        return wordMap.get(word);
+        Trie trie = this.trie;
+        int node = trie.find(word);
+        return node != Trie.NONE && trie.isEndOfWord(node) ?
+                (long) trie.point(node) : null;
+    }
+
+    /**
+     * Solves generated boards against this dictionary so that the search
+     * code is JIT-compiled before the first real request.
+     *
+     * @param solves Number of boards to solve
+     * @return This dictionary (fluent interface)
+     * @throws IllegalArgumentException If {@code solves} is negative
+     * @see Solver#warmUp(int)
+     */
+    public Dictionary warmUp(int solves) {
+        new Solver(this).warmUp(solves);
+        return this;
+    }
+
+    /**
+     * Accumulates words from one or more sources and freezes them into an
+     * immutable {@link Dictionary}.
+     * <p>
+     * Later sources replace the points of words loaded earlier. Each source
+     * is applied atomically: if it fails to load, the builder keeps the words
+     * it had before. Builders are not thread-safe; the dictionaries they
+     * build are.
+     * </p>
+     *
+     * @author BackendBaz (Amirhossein Emadi)
+     * @version 2.2.0
+     */
+    public static final class Builder {
+
+        /** Words loaded so far, frozen after every source. */
+        private Trie trie;
+
+        /** Whether the words are frozen into a minimized trie. */
+        private boolean minimized;
+
+        private Builder(Trie base) {
+            trie = base;
+            minimized = base.isMinimized();
+        }
+
+        /**
+         * Stores the words in a minimized trie (a DAWG, see {@link Trie}),
+         * which shares the nodes of common suffixes such as {@code "ها"} or
+         * {@code "ستان"} instead of repeating them for every word. Words
+         * already loaded are converted, and later sources keep the form (as
+         * they do after loading a snapshot of a minimized dictionary first).
+         * <p>
+         * Points stay on the nodes and word identities are recovered by
+         * perfect hashing, so search results are identical; a search step
+         * costs one more memory read, and each found word one more walk.
+         * </p>
+         *
+         * @return This builder (fluent interface)
+         */
+        public Builder minimized() {
+            if (!minimized && trie != Trie.EMPTY)
+                trie = new TrieBuilder(trie).buildMinimized();
+            minimized = true;
+            return this;
+        }
+
+        /**
+         * Loads the default dictionary.
+         * <p>
+         * Uses the precompiled snapshot at {@value #SNAPSHOT_PATH} when it is on
+         * the classpath and falls back to parsing {@value #PATH} otherwise (e.g.,
+         * when running from an IDE without the Maven build).
+         * </p>
+         *
+         * @return This builder (fluent interface)
+         * @throws IOException If neither resource can be loaded
+         */
+        public Builder load() throws IOException {
+            long start = Instrumentation.loadsObserved() ? System.nanoTime() : 0;
+            try (InputStream snapshot = Dictionary.class
+                    .getResourceAsStream(SNAPSHOT_PATH)) {
+                if (snapshot != null)
+                    return merge(DictionarySnapshot.read(snapshot.readAllBytes()),
+                            "snapshot " + SNAPSHOT_PATH, start);
+            }
+            return load(PATH);
+        }
+
+        /**
+         * Loads and parses dictionary data from the specified JSON resource.
+         * <p>
+         * The JSON file must contain an array of objects with fields:
+         * {@code { "word": "عمادی", "point": 6 }}
+         * </p>
+         *
+         * <h3>Loading Process:</h3>
+         * <ol>
+         *   <li>Opens resource stream from classpath</li>
+         *   <li>Streams JSON tokens using a Jackson {@link JsonParser}</li>
+         *   <li>Inserts each word and its point into a trie builder as it is read</li>
+         *   <li>Freezes the builder into a compact trie</li>
+         * </ol>
+         *
+         * @param resource Absolute path to JSON resource in classpath (e.g., {@value #PATH})
+         * @return This builder (fluent interface)
+         * @throws IOException If the resource is not found or JSON parsing fails
+         */
+        public Builder load(String resource) throws IOException {
+            InputStream inputStream = Dictionary.class.getResourceAsStream(resource);
+            if (inputStream == null) throw new IOException("Dictionary file not found");
+            try (inputStream) {
+                return load(inputStream, "resource " + resource);
+            }
+        }
+
+        /**
+         * Loads dictionary data from a JSON file, e.g. an updated word list
+         * shipped next to the application.
+         *
+         * @param file JSON file in the format described in {@link #load(String)}
+         * @return This builder (fluent interface)
+         * @throws IOException If the file is not found or JSON parsing fails
+         */
+        public Builder load(Path file) throws IOException {
+            InputStream inputStream;
+            try {
+                inputStream = Files.newInputStream(file);
+            } catch (NoSuchFileException e) {
+                throw new IOException("Dictionary file not found: " + file, e);
+            }
+            try (inputStream) {
+                return load(inputStream, "file " + file);
+            }
+        }
+
+        /**
+         * Loads dictionary data from a JSON document at a URL.
+         *
+         * @param url Location of a JSON document in the format described in
+         *            {@link #load(String)}
+         * @return This builder (fluent interface)
+         * @throws IOException If the URL cannot be read or JSON parsing fails
+         */
+        public Builder load(URL url) throws IOException {
+            try (InputStream inputStream = url.openStream()) {
+                return load(inputStream, "url " + url);
+            }
+        }
+
+        /**
+         * Loads dictionary data from a JSON byte stream. The encoding (UTF-8 for
+         * the bundled files) is detected by Jackson. The stream is not closed.
+         *
+         * @param inputStream JSON content in the format described in {@link #load(String)}
+         * @return This builder (fluent interface)
+         * @throws IOException If reading or JSON parsing fails
+         */
+        public Builder load(InputStream inputStream) throws IOException {
+            return load(inputStream, "stream");
+        }
+
+        /**
+         * Loads dictionary data from a JSON character stream. The reader is not
+         * closed.
+         *
+         * @param reader JSON content in the format described in {@link #load(String)}
+         * @return This builder (fluent interface)
+         * @throws IOException If reading or JSON parsing fails
+         */
+        public Builder load(Reader reader) throws IOException {
+            try (JsonParser parser = JSON.createParser(reader)) {
+                return loadEntries(parser, "reader");
+            }
+        }
+
+        /**
+         * Loads a precompiled binary dictionary snapshot from the file system.
+         * <p>
+         * The file is memory-mapped and the trie is traversed in place: nothing
+         * is parsed and no per-word objects are created. The header's version and
+         * the node table's checksum are verified first.
+         * </p>
+         * <p>
+         * If the builder already holds words, the snapshot's words are merged
+         * into a new heap trie instead, with snapshot points taking precedence.
+         * </p>
+         *
+         * @param snapshot Snapshot file written by {@link DictionarySnapshot}
+         * @return This builder (fluent interface)
+         * @throws IOException If the file cannot be read or is not a valid snapshot
+         */
+        public Builder loadSnapshot(Path snapshot) throws IOException {
+            long start = Instrumentation.loadsObserved() ? System.nanoTime() : 0;
+            return merge(DictionarySnapshot.map(snapshot), "snapshot " + snapshot,
+                    start);
+        }
+
+        /**
+         * Freezes the loaded words into a dictionary. The builder can keep
+         * loading afterwards without affecting the returned dictionary.
+         *
+         * @return Immutable dictionary
+         */
+        public Dictionary build() {
+            return new Dictionary(trie);
+        }
+
+        private Builder load(InputStream inputStream, String source)
+                throws IOException {
+            try (JsonParser parser = JSON.createParser(inputStream)) {
+                return loadEntries(parser, source);
+            }
+        }
+
+        /**
+         * Streams {@code {word, point}} entries into the trie one at a time, so
+         * no intermediate list of entries is ever held in memory. The trie is only
+         * replaced once the whole document has been read successfully.
+         *
+         * @param parser Parser positioned before the top-level array
+         * @param source Description of the source for {@link Instrumentation}
+         * @return This builder
+         * @throws IOException If the document is not a valid dictionary
+         */
+        private Builder loadEntries(JsonParser parser, String source)
+                throws IOException {
+            long start = Instrumentation.loadsObserved() ? System.nanoTime() : 0;
+            if (parser.nextToken() != JsonToken.START_ARRAY)
+                throw new JsonParseException(parser, "Dictionary must be a JSON " +
+                        "array of {\"word\", \"point\"} objects");
+            TrieBuilder builder = new TrieBuilder(trie);
+            long parsed = 0;
+            long skipped = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                WordDto entry = readEntry(parser);
+                if (entry.point() > Trie.MAX_POINT_VALUE)
+                    throw new JsonParseException(parser, "point is out of range " +
+                            "for word: " + entry.word());
+                parsed++;
+                if (!builder.insert(entry.word(), (int) entry.point())) skipped++;
+            }
+            if (token != JsonToken.END_ARRAY)
+                throw new JsonParseException(parser, "Expected a {\"word\", " +
+                        "\"point\"} object but found " + token);
+            trie = freeze(builder);
+            if (start != 0) report(source, parsed, skipped, start);
+            return this;
+        }
+
+        /**
+         * Adopts a loaded trie, or merges it into the existing words.
+         */
+        private Builder merge(Trie loaded, String source, long start) {
+            if (trie == Trie.EMPTY && (loaded.isMinimized() || !minimized)) {
+                // اسنپ‌شات فشرده همان‌طور فشرده می‌ماند
+                trie = loaded;
+                minimized = loaded.isMinimized();
+            } else {
+                TrieBuilder builder = new TrieBuilder(trie);
+                builder.addAll(loaded);
+                trie = freeze(builder);
+            }
+            if (start != 0) report(source, loaded.wordCount(), 0, start);
+            return this;
+        }
+
+        /** Builds the trie in the form this builder keeps. */
+        private Trie freeze(TrieBuilder builder) {
+            return minimized ? builder.buildMinimized() : builder.build();
+        }
+
+        /** Publishes the statistics of a loaded source. */
+        private void report(String source, long parsed, long skipped, long start) {
+            Instrumentation.loaded(new LoadStats(source, parsed, skipped,
+                    trie.nodeCount(), trie.sizeInBytes(),
+                    System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Reads the fields of one entry object; validation is delegated to
+     * {@link WordDto}, exactly as when the entry is bound by Jackson.
+     *
+     * @param parser Parser positioned on the entry's {@code START_OBJECT}
+     * @return Validated entry
+     * @throws IOException On unknown fields, wrong value types or invalid values
+     */
+    private static WordDto readEntry(JsonParser parser) throws IOException {
+        String word = null;
+        long point = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "word" -> word = value == JsonToken.VALUE_NULL ? null :
+                        parser.getValueAsString();
+                case "point" -> {
+                    if (value == JsonToken.VALUE_NUMBER_INT)
+                        point = parser.getLongValue();
+                    else if (value != JsonToken.VALUE_NULL)
+                        throw new JsonParseException(parser, "point must be " +
+                                "an integer");
+                }
+                default -> throw new JsonParseException(parser,
+                        "Unrecognized field \"" + field + "\"");
+            }
+        }
+        try {
+            return new WordDto(word, point);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, e.getMessage(), e);
+        }
     }
 
 }
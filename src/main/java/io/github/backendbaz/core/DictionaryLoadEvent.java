@@ -0,0 +1,56 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.LoadStats;
+import jdk.jfr.*;
+
+/**
+ * JFR event recorded for every source loaded into a dictionary.
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Instrumentation
+ */
+@Name("io.github.backendbaz.DictionaryLoad")
+@Label("Dictionary Load")
+@Category({"Bazambazi", "Word Finder"})
+@Description("A word list or snapshot loaded into a dictionary")
+@StackTrace(false)
+final class DictionaryLoadEvent extends Event {
+
+    /** Type of this event, for cheap enabled checks. */
+    static final EventType ENABLED = EventType.getEventType(DictionaryLoadEvent.class);
+
+    @Label("Source")
+    String source;
+
+    @Label("Entries Parsed")
+    long entriesParsed;
+
+    @Label("Entries Skipped")
+    long entriesSkipped;
+
+    @Label("Trie Nodes")
+    int nodeCount;
+
+    @Label("Estimated Size")
+    @DataAmount
+    long estimatedBytes;
+
+    @Label("Load Time")
+    @Timespan
+    long elapsedNanos;
+
+    /** Records a load if the event is enabled. */
+    static void commit(LoadStats stats) {
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        if (!event.shouldCommit()) return;
+        event.source = stats.source();
+        event.entriesParsed = stats.entriesParsed();
+        event.entriesSkipped = stats.entriesSkipped();
+        event.nodeCount = stats.nodeCount();
+        event.estimatedBytes = stats.estimatedBytes();
+        event.elapsedNanos = stats.elapsedNanos();
+        event.commit();
+    }
+
+}
@@ -0,0 +1,270 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.dto.WordDto;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Holds the live {@link Dictionary} of a long-running application and
+ * replaces it at runtime without stopping searches.
+ * <p>
+ * Every change (a reload of the word list, or added, removed and re-scored
+ * words) is built into a new immutable dictionary off to the side and then
+ * published with a single atomic swap. Readers never block: they take the
+ * current dictionary with {@link #current()} and keep working on that
+ * snapshot, so a search that is already running finishes on the words it
+ * started with while new searches see the update.
+ * </p>
+ * <p>
+ * Writers are serialized, so concurrent updates never lose each other's
+ * changes. Building a new version costs one pass over the trie; batch many
+ * changes into a single {@link #apply(Collection, Collection)} call.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * DictionaryManager manager = new DictionaryManager(Dictionary.getDefault());
+ * manager.watch(Path.of("words.json"), e -> log.warn("Reload failed", e));
+ *
+ * // Per search
+ * List<Word> words = new Finder(letters).findTopWords(manager.current(), 10, "");
+ *
+ * // Runtime edits
+ * manager.add("عمادی", 6);
+ * manager.remove("حصار");
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Dictionary
+ */
+public final class DictionaryManager implements Closeable {
+
+    /** How long the watcher waits for a file to settle before reloading. */
+    private static final long SETTLE_MILLIS = 100;
+
+    private final AtomicReference<Dictionary> current;
+    private final Object writeLock = new Object();
+
+    private WatchService watchService;
+
+    /**
+     * Creates a manager serving an initial dictionary.
+     *
+     * @param initial Dictionary to serve until the first update
+     */
+    public DictionaryManager(Dictionary initial) {
+        current = new AtomicReference<>(Objects.requireNonNull(initial,
+                "Dictionary is required"));
+    }
+
+    /**
+     * Returns the dictionary to use for the next search. The returned
+     * instance never changes; later updates publish a new one.
+     *
+     * @return Current dictionary snapshot
+     */
+    public Dictionary current() {
+        return current.get();
+    }
+
+    /**
+     * Adds a word, or replaces its point if it is already present.
+     *
+     * @param word  Word to add
+     * @param point Positive point value
+     * @return The newly published dictionary
+     * @throws IllegalArgumentException If the word or point is invalid
+     */
+    public Dictionary add(String word, long point) {
+        return apply(List.of(new WordDto(word, point)), List.of());
+    }
+
+    /**
+     * Changes the point of an existing word.
+     *
+     * @param word  Word to change
+     * @param point New positive point value
+     * @return The newly published dictionary
+     * @throws IllegalArgumentException If the word is not in the dictionary,
+     *                                  or the point is invalid
+     */
+    public Dictionary updatePoint(String word, long point) {
+        WordDto entry = new WordDto(word, point);
+        synchronized (writeLock) {
+            if (current().getPoint(word) == null)
+                throw new IllegalArgumentException("Word is not in the " +
+                        "dictionary: " + word);
+            return apply(List.of(entry), List.of());
+        }
+    }
+
+    /**
+     * Removes a word. Removing a missing word publishes nothing.
+     *
+     * @param word Word to remove
+     * @return The current dictionary after the removal
+     */
+    public Dictionary remove(String word) {
+        return apply(List.of(), List.of(word));
+    }
+
+    /**
+     * Applies a batch of changes as one new version: removals first, then
+     * additions, which replace the points of words already present.
+     *
+     * @param additions Words to add or re-score
+     * @param removals  Words to remove
+     * @return The current dictionary after the changes
+     * @throws IllegalArgumentException If an added word contains a letter that
+     *                                  never appears on a board, or its point
+     *                                  is out of range; nothing is published
+     */
+    public Dictionary apply(Collection<WordDto> additions,
+                            Collection<String> removals) {
+        for (WordDto entry : additions) {
+            if (entry.point() > Trie.MAX_POINT_VALUE)
+                throw new IllegalArgumentException("point is out of range for " +
+                        "word: " + entry.word());
+            for (int i = 0; i < entry.word().length(); i++)
+                if (Alphabet.codeOf(entry.word().charAt(i)) < 0)
+                    throw new IllegalArgumentException("Word contains letters " +
+                            "that never appear on a board: " + entry.word());
+        }
+        synchronized (writeLock) {
+            Dictionary base = current();
+            TrieBuilder builder = new TrieBuilder(base.getTrie());
+            boolean changed = false;
+            for (String word : removals) changed |= builder.remove(word);
+            for (WordDto entry : additions) {
+                Long old = base.getPoint(entry.word());
+                changed |= old == null || old != entry.point() ||
+                        removals.contains(entry.word());
+                builder.insert(entry.word(), (int) entry.point());
+            }
+            if (!changed) return base;
+            // نسخه‌ی فشرده پس از ویرایش هم فشرده می‌ماند
+            Dictionary updated = new Dictionary(base.getTrie().isMinimized()
+                    ? builder.buildMinimized() : builder.build());
+            current.set(updated);
+            return updated;
+        }
+    }
+
+    /**
+     * Replaces the whole dictionary.
+     *
+     * @param dictionary Dictionary to publish
+     * @return The given dictionary
+     */
+    public Dictionary replace(Dictionary dictionary) {
+        Objects.requireNonNull(dictionary, "Dictionary is required");
+        synchronized (writeLock) {
+            current.set(dictionary);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Loads a JSON word list (see {@link Dictionary.Builder#load(Path)}) and
+     * publishes it in place of the current dictionary, minimized if the
+     * current one is. If loading fails, the current dictionary stays in
+     * service.
+     *
+     * @param file JSON word list
+     * @return The newly published dictionary
+     * @throws IOException If the file cannot be read or parsed
+     */
+    public Dictionary reload(Path file) throws IOException {
+        // بارگذاری بیرون از قفل؛ فقط جایگزینی سریالی است
+        Dictionary.Builder builder = Dictionary.builder();
+        if (current().getTrie().isMinimized()) builder.minimized();
+        return replace(builder.load(file).build());
+    }
+
+    /**
+     * Reloads a JSON word list whenever it is written or replaced, on a
+     * daemon thread, until {@link #close()}. Editors and deploy scripts that
+     * write the file in several steps trigger a single reload once the file
+     * has been quiet for a moment. Failed reloads (e.g. a half-written file)
+     * keep the current dictionary and are passed to {@code onError}.
+     *
+     * @param file    JSON word list to watch
+     * @param onError Receives the failure of every unsuccessful reload
+     * @throws IOException           If the file's directory cannot be watched
+     * @throws IllegalStateException If a file is already being watched
+     */
+    public void watch(Path file, Consumer<? super IOException> onError)
+            throws IOException {
+        Path absolute = file.toAbsolutePath();
+        Path directory = absolute.getParent();
+        Path name = absolute.getFileName();
+        WatchService service;
+        synchronized (writeLock) {
+            if (watchService != null)
+                throw new IllegalStateException("Already watching a file");
+            service = directory.getFileSystem().newWatchService();
+            try {
+                directory.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (IOException e) {
+                service.close();
+                throw e;
+            }
+            watchService = service;
+        }
+        Thread thread = new Thread(() -> watchLoop(service, absolute, name, onError),
+                "dictionary-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void watchLoop(WatchService service, Path file, Path name,
+                           Consumer<? super IOException> onError) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean touched = false;
+                // رویدادهای پشت سر هم یک نوشتن را یکی می‌کنیم
+                while (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents())
+                        touched |= name.equals(event.context());
+                    key.reset();
+                    key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (!touched) continue;
+                try {
+                    reload(file);
+                } catch (IOException e) {
+                    onError.accept(e);
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // close() فراخوانی شده است
+        }
+    }
+
+    /**
+     * Stops watching the word list file, if any. The current dictionary stays
+     * in service.
+     *
+     * @throws IOException If the file watcher cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        WatchService service;
+        synchronized (writeLock) {
+            service = watchService;
+            watchService = null;
+        }
+        if (service != null) service.close();
+    }
+
+}
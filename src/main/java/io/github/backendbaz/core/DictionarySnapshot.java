@@ -0,0 +1,180 @@
+package io.github.backendbaz.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Reads and writes precompiled binary images of a {@link Trie}.
+ * <p>
+ * A snapshot is the trie's node table written as-is, so loading it needs no
+ * JSON parsing and builds no object graph: {@link #map(Path)} memory-maps the
+ * file and the returned trie reads nodes straight from the mapping. A
+ * minimized trie is written with its edge and offset tables after the node
+ * table.
+ * </p>
+ *
+ * <h2>File Layout (little-endian):</h2>
+ * <pre>
+ * offset  size  field
+ * 0       4     magic      "BZWF"
+ * 4       4     version    {@value #VERSION}
+ * 8       4     stride     ints per node ({@link Trie#STRIDE})
+ * 12      4     nodeCount
+ * 16      4     checksum   CRC32C of the table bytes
+ * 20      4     edgeCount  edges of a minimized trie (0 for a plain trie)
+ * 24      ...   node table (nodeCount * stride ints)
+ * ...     ...   minimized trie only: edge table (edgeCount ints), then word
+ *               index offsets (edgeCount ints)
+ * </pre>
+ *
+ * <h2>Build Usage:</h2>
+ * The Maven build runs {@link #main(String[])} in the {@code process-classes}
+ * phase to compile {@code words.json} into {@value Dictionary#SNAPSHOT_PATH}:
+ * <pre>{@code
+ * java io.github.backendbaz.core.DictionarySnapshot /dictionary/words.json target/classes/dictionary/words.bin
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Dictionary#loadSnapshot(Path)
+ */
+public final class DictionarySnapshot {
+
+    /** File magic, the ASCII bytes {@code "BZWF"}. */
+    static final int MAGIC = 0x46575A42;
+
+    /** Current format version; bumped whenever the node layout changes. */
+    static final int VERSION = 5;
+
+    /** Header size in bytes; keeps the node table 8-byte aligned. */
+    static final int HEADER_SIZE = 24;
+
+    private DictionarySnapshot() {}
+
+    /**
+     * Compiles a JSON dictionary resource into a snapshot file.
+     *
+     * @param args {@code [0]} JSON resource in classpath (e.g., {@value Dictionary#PATH}),
+     *             {@code [1]} output snapshot file
+     * @throws IOException If the dictionary cannot be loaded or the file written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2)
+            throw new IllegalArgumentException("Usage: DictionarySnapshot " +
+                    "<json resource> <output file>");
+        Trie trie = Dictionary.builder().load(args[0]).build().getTrie();
+        Path output = Path.of(args[1]);
+        if (output.getParent() != null) Files.createDirectories(output.getParent());
+        write(trie, output);
+    }
+
+    /**
+     * Writes a trie to a snapshot file, replacing any existing file.
+     *
+     * @param trie Trie to write
+     * @param file Target file
+     * @throws IOException If the file cannot be written
+     */
+    static void write(Trie trie, Path file) throws IOException {
+        IntBuffer nodes = trie.nodes();
+        int edgeCount = trie.isMinimized() ? trie.edges().limit() : 0;
+        ByteBuffer table = ByteBuffer.allocate((int) trie.sizeInBytes())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer ints = table.asIntBuffer().put(nodes.duplicate().rewind());
+        if (trie.isMinimized())
+            ints.put(trie.edges().duplicate().rewind())
+                    .put(trie.offsets().duplicate().rewind());
+        CRC32C crc = new CRC32C();
+        crc.update(table.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(Trie.STRIDE)
+                .putInt(trie.nodeCount())
+                .putInt((int) crc.getValue())
+                .putInt(edgeCount)
+                .flip();
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) channel.write(header);
+            while (table.hasRemaining()) channel.write(table);
+        }
+    }
+
+    /**
+     * Memory-maps a snapshot file. The returned trie reads from the mapping
+     * directly; the mapping stays valid after the channel is closed.
+     *
+     * @param file Snapshot file
+     * @return Trie backed by the mapped file
+     * @throws IOException If the file cannot be read or is not a valid snapshot
+     */
+    static Trie map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return open(channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size()));
+        }
+    }
+
+    /**
+     * Reads a snapshot from memory, copying the node table onto the heap.
+     * Used for snapshots packaged inside a jar, which cannot be mapped.
+     *
+     * @param bytes Complete snapshot content
+     * @return Heap-backed trie
+     * @throws IOException If the content is not a valid snapshot
+     */
+    static Trie read(byte[] bytes) throws IOException {
+        Trie mapped = open(ByteBuffer.wrap(bytes));
+        int[] nodes = copy(mapped.nodes());
+        if (!mapped.isMinimized()) return new Trie(nodes);
+        return new Trie(nodes, copy(mapped.edges()), copy(mapped.offsets()));
+    }
+
+    /** Copies a table onto the heap. */
+    private static int[] copy(IntBuffer table) {
+        int[] values = new int[table.limit()];
+        table.get(0, values);
+        return values;
+    }
+
+    /**
+     * Validates the header and checksum and wraps the tables.
+     */
+    private static Trie open(ByteBuffer buffer) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IOException("Not a dictionary snapshot");
+        if (buffer.getInt(4) != VERSION || buffer.getInt(8) != Trie.STRIDE)
+            throw new IOException("Unsupported dictionary snapshot version: " +
+                    buffer.getInt(4));
+        long nodeCount = buffer.getInt(12);
+        long edgeCount = buffer.getInt(20);
+        long ints = nodeCount * Trie.STRIDE + 2 * edgeCount;
+        long size = ints * Integer.BYTES;
+        if (nodeCount <= 0 || edgeCount < 0 || HEADER_SIZE + size != buffer.limit())
+            throw new IOException("Dictionary snapshot is truncated");
+        ByteBuffer table = buffer.slice(HEADER_SIZE, (int) size)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        CRC32C crc = new CRC32C();
+        crc.update(table.duplicate());
+        if ((int) crc.getValue() != buffer.getInt(16))
+            throw new IOException("Dictionary snapshot checksum mismatch");
+        IntBuffer all = table.asIntBuffer();
+        int nodeInts = (int) nodeCount * Trie.STRIDE;
+        IntBuffer nodes = all.slice(0, nodeInts);
+        if (edgeCount == 0) return Trie.mapped(nodes, null, null);
+        return Trie.mapped(nodes, all.slice(nodeInts, (int) edgeCount),
+                all.slice(nodeInts + (int) edgeCount, (int) edgeCount));
+    }
+
+}
@@ -0,0 +1,103 @@
+package io.github.backendbaz.core;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed geometry of one {@link GridSize}: cell points and neighbour
+ * tables. Cells are numbered {@code row * cols + col}.
+ * <p>
+ * Geometries are immutable and cached per size ({@link #of(GridSize)}), so
+ * every board of the same size shares one set of tables.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+final class Grid {
+
+    private static final ConcurrentMap<GridSize, Grid> CACHE =
+            new ConcurrentHashMap<>();
+
+    /** Geometry of the classic 4x4 board. */
+    static final Grid CLASSIC = of(GridSize.CLASSIC);
+
+    final GridSize size;
+    final int rows;
+    final int cols;
+    final int cells;
+
+    /** Shared immutable point per cell. */
+    final Point[] points;
+
+    /**
+     * Neighbour table: the neighbours of {@code cell} are
+     * {@code neighbors[neighborStart[cell] .. neighborStart[cell + 1] - 1]},
+     * in the direction order up, down, left, right and the four diagonals.
+     */
+    final int[] neighbors;
+    final int[] neighborStart;
+
+    /** Bitmask of the neighbours of each cell. */
+    final long[] adjacent;
+
+    private Grid(GridSize dimensions) {
+        size = dimensions;
+        rows = dimensions.rows();
+        cols = dimensions.cols();
+        cells = dimensions.cells();
+        points = new Point[cells];
+        neighborStart = new int[cells + 1];
+        // 8 جهت : بالا ، پایین ، چپ ، راست و مورب ها (4)
+        int[][] directions = {
+                {-1, 0}, {1, 0}, {0, -1}, {0, 1},
+                {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
+        };
+        int[] table = new int[cells * directions.length];
+        int size = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            int row = cell / cols;
+            int col = cell % cols;
+            points[cell] = new Point(row, col);
+            neighborStart[cell] = size;
+            for (int[] dir : directions) {
+                int r = row + dir[0];
+                int c = col + dir[1];
+                if (r >= 0 && r < rows && c >= 0 && c < cols)
+                    table[size++] = r * cols + c;
+            }
+        }
+        neighborStart[cells] = size;
+        neighbors = Arrays.copyOf(table, size);
+        adjacent = new long[cells];
+        for (int cell = 0; cell < cells; cell++)
+            for (int k = neighborStart[cell]; k < neighborStart[cell + 1]; k++)
+                adjacent[cell] |= 1L << neighbors[k];
+    }
+
+    /**
+     * Returns the cached geometry of a size.
+     *
+     * @param size Grid dimensions
+     * @return Shared geometry
+     */
+    static Grid of(GridSize size) {
+        return CACHE.computeIfAbsent(size, Grid::new);
+    }
+
+    /**
+     * Returns the number of king moves between two cells, which is a lower
+     * bound on the number of further letters a path needs to get from one
+     * to the other.
+     *
+     * @param from Cell index
+     * @param to   Cell index
+     * @return Chebyshev distance of the cells
+     */
+    int distance(int from, int to) {
+        return Math.max(Math.abs(from / cols - to / cols),
+                Math.abs(from % cols - to % cols));
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.github.backendbaz.core;
+
+/**
+ * Dimensions of a game board.
+ * <p>
+ * The classic game uses {@link #CLASSIC 4x4}; larger variants (5x5, 6x6 or
+ * any {@code rows x cols}) are supported up to 64 cells, so the visited cells
+ * of a path always fit in one {@code long}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * GridSize size = new GridSize(5, 5);
+ * Finder finder = new Finder(letters, size); // 25 space-separated letters
+ * }</pre>
+ *
+ * @param rows Number of rows ({@code >= 1})
+ * @param cols Number of columns ({@code >= 1})
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ *
+ * @see Finder
+ */
+public record GridSize(int rows, int cols) {
+
+    /** Largest supported number of cells. */
+    public static final int MAX_CELLS = Long.SIZE;
+
+    /** The classic 4x4 board. */
+    public static final GridSize CLASSIC = new GridSize(4, 4);
+
+    /**
+     * Validates the dimensions.
+     *
+     * @throws IllegalArgumentException If a dimension is not positive or the
+     *                                  grid has more than {@value #MAX_CELLS} cells
+     */
+    public GridSize {
+        if (rows < 1 || cols < 1 || rows * cols > MAX_CELLS)
+            throw new IllegalArgumentException("Grid must have between 1 and " +
+                    MAX_CELLS + " cells: " + rows + "x" + cols);
+    }
+
+    /**
+     * Returns the number of cells.
+     *
+     * @return {@code rows * cols}
+     */
+    public int cells() {
+        return rows * cols;
+    }
+
+}
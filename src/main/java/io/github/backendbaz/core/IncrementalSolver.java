@@ -0,0 +1,311 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import io.github.backendbaz.models.PathMode;
+import io.github.backendbaz.models.SolveRequest;
+import io.github.backendbaz.models.Word;
+import java.util.*;
+
+/**
+ * Stateful solver for a board whose tiles change one at a time, e.g. to
+ * answer "what if this tile were swapped" queries.
+ * <p>
+ * The solver keeps every path of the board that spells a dictionary prefix
+ * (the tree the depth-first search of {@link Finder} walks, without any
+ * pruning). {@link #updateCell(int, int, String)} drops only the paths
+ * through the changed cell and searches again only from the remaining paths
+ * that end next to it (and from the cell itself), so everything that does not
+ * touch the cell is reused. Each word is then reported with its first (or,
+ * with {@link io.github.backendbaz.models.PathMode#BEST}, its best-scoring)
+ * qualifying path in DFS order and ranked exactly like
+ * {@link Finder#findTopWords(Dictionary, SolveRequest)}, so the result is
+ * always identical to a full solve of the current board.
+ * </p>
+ * <p>
+ * On a 4x4 board a cell lies on about a fifth of the stored paths, so an
+ * update redoes roughly that share of an exhaustive search, and
+ * {@code findTopWords} only scans the stored paths. An update followed by a
+ * query costs about half of solving the changed board from scratch when the
+ * whole word list is wanted; for a small {@code topN}, where {@link Finder}
+ * prunes most of the search, the two are on par. Several requests
+ * (different {@code topN} or bonuses) can be answered from the same state.
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * IncrementalSolver solver = new IncrementalSolver(dictionary, letters);
+ * List<Word> before = solver.findTopWords(SolveRequest.top(10));
+ * solver.updateCell(1, 2, "ن");
+ * List<Word> after = solver.findTopWords(SolveRequest.top(10));
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Finder
+ */
+public final class IncrementalSolver {
+
+    private final Trie trie;
+    private final Grid grid;
+
+    /** Letter code per cell of the current board. */
+    private final int[] letters;
+
+    /** Position of {@code to} in the neighbour order of {@code from}, at {@code from * cells + to}. */
+    private final byte[] rank;
+
+    /** Neighbour mask per cell. */
+    private final long[] adjacent;
+
+    /**
+     * Prefix paths: trie node, parent path ({@code -1} for a single cell),
+     * last cell, cells used and length. A parent always has a lower index
+     * than its children.
+     */
+    private int[] nodes = new int[256];
+    private int[] parents = new int[256];
+    private byte[] lastCells = new byte[256];
+    private long[] masks = new long[256];
+    private byte[] lengths = new byte[256];
+    private int size;
+
+    /**
+     * Creates a solver for a classic 4x4 board.
+     *
+     * @param dictionary Dictionary to search
+     * @param letters Space-separated string of 16 Persian letters
+     * @throws InvalidLettersException If the letters are not a valid board
+     */
+    public IncrementalSolver(Dictionary dictionary, String letters)
+            throws InvalidLettersException {
+        this(dictionary, new Finder(letters));
+    }
+
+    /**
+     * Creates a solver for a board of any size.
+     *
+     * @param dictionary Dictionary to search
+     * @param letters Space-separated Persian letters, one per cell
+     * @param size Board dimensions
+     * @throws InvalidLettersException If the letters are not a valid board
+     */
+    public IncrementalSolver(Dictionary dictionary, String letters, GridSize size)
+            throws InvalidLettersException {
+        this(dictionary, new Finder(letters, size));
+    }
+
+    private IncrementalSolver(Dictionary dictionary, Finder finder) {
+        trie = dictionary.getTrie();
+        grid = finder.geometry();
+        letters = finder.board().clone();
+        rank = new byte[grid.cells * grid.cells];
+        adjacent = new long[grid.cells];
+        for (int cell = 0; cell < grid.cells; cell++)
+            for (int k = grid.neighborStart[cell]; k < grid.neighborStart[cell + 1]; k++) {
+                rank[cell * grid.cells + grid.neighbors[k]] =
+                        (byte) (k - grid.neighborStart[cell]);
+                adjacent[cell] |= 1L << grid.neighbors[k];
+            }
+        for (int cell = 0; cell < grid.cells; cell++) extend(-1, cell);
+    }
+
+    /**
+     * Changes the letter of one cell.
+     *
+     * @param row Row of the cell
+     * @param col Column of the cell
+     * @param letter New Persian letter
+     * @throws InvalidLettersException If the letter is not a valid board letter
+     * @throws IllegalArgumentException If the cell lies outside the grid
+     */
+    public void updateCell(int row, int col, String letter)
+            throws InvalidLettersException {
+        if (row < 0 || row >= grid.rows || col < 0 || col >= grid.cols)
+            throw new IllegalArgumentException("Cell is outside the grid: " +
+                    new Point(row, col));
+        if (letter == null || letter.length() != 1 ||
+                Alphabet.codeOf(letter.charAt(0)) < 0)
+            throw new InvalidLettersException("Invalid Persian letter: " + letter);
+        int cell = row * grid.cols + col;
+        int code = Alphabet.codeOf(letter.charAt(0));
+        if (letters[cell] == code) return;
+        letters[cell] = code;
+        long bit = 1L << cell;
+        // حذف مسیرهایی که از این خانه می‌گذرند (ترتیب و والدها حفظ می‌شوند)
+        int[] moved = new int[size];
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((masks[i] & bit) != 0) continue;
+            moved[i] = kept;
+            nodes[kept] = nodes[i];
+            parents[kept] = parents[i] < 0 ? -1 : moved[parents[i]];
+            lastCells[kept] = lastCells[i];
+            masks[kept] = masks[i];
+            lengths[kept] = lengths[i];
+            kept++;
+        }
+        size = kept;
+        // فقط مسیرهای مجاور این خانه دوباره ادامه داده می‌شوند
+        for (int i = 0; i < kept; i++)
+            if ((adjacent[lastCells[i]] & bit) != 0) extend(i, cell);
+        extend(-1, cell);
+    }
+
+    /**
+     * Finds the top words of the current board, like
+     * {@link Finder#findTopWords(Dictionary, int, String)}.
+     *
+     * @param topN Number of top results to return
+     * @param highPointLetter a high-score letter to filter list of words
+     * @return Sorted list of top {@code topN} words
+     */
+    public List<Word> findTopWords(int topN, String highPointLetter) {
+        return findTopWords(Finder.toRequest(topN, highPointLetter, grid));
+    }
+
+    /**
+     * Finds the top words of the current board, like
+     * {@link Finder#findTopWords(Dictionary, SolveRequest)}.
+     *
+     * @param request Number of words, bonus cells and filter
+     * @return Sorted list of the top words
+     * @throws IllegalArgumentException If a bonus cell lies outside the grid
+     */
+    public List<Word> findTopWords(SolveRequest request) {
+        BonusLayout bonuses = new BonusLayout(grid, letters, request);
+        long required = bonuses.requiredMask();
+        int[] first = new int[grid.cells];
+        int[] other = new int[grid.cells];
+        // مسیرهای واجد شرایط، مرتب بر اساس کلمه (کلید کلمه)
+        long[] candidates = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++)
+            if (lengths[i] >= WordSearch.MIN_LENGTH && trie.isEndOfWord(nodes[i]) &&
+                    (required == 0 || (masks[i] & required) != 0))
+                candidates[count++] = (long) key(i, first) << 32 | i;
+        Arrays.sort(candidates, 0, count);
+        // heap کمینه‌ی topN کلمه‌ی برتر؛ ضعیف‌ترین کلمه در ریشه است
+        int topN = request.topN();
+        boolean best = request.pathMode() == PathMode.BEST && bonuses.scoresPaths();
+        PriorityQueue<Found> top = new PriorityQueue<>(Math.max(1, Math.min(topN,
+                count)), (a, b) -> compare(b, a));
+        for (int k = 0; k < count; ) {
+            int key = (int) (candidates[k] >>> 32);
+            int node = nodes[(int) candidates[k]];
+            int length = path((int) candidates[k], first);
+            long score = best ? bonuses.score(trie.point(node), first, length) : 0;
+            // اولین مسیر در ترتیب DFS (یا پرامتیازترین، و در تساوی اولین)
+            for (k++; k < count && (int) (candidates[k] >>> 32) == key; k++) {
+                int candidateLength = path((int) candidates[k], other);
+                long candidateScore = best ? bonuses.score(trie.point(node),
+                        other, candidateLength) : 0;
+                if (candidateScore > score || candidateScore == score &&
+                        precedes(other, candidateLength, first, length)) {
+                    int[] swap = first;
+                    first = other;
+                    other = swap;
+                    length = candidateLength;
+                    score = candidateScore;
+                }
+            }
+            if (topN == 0) continue;
+            if (!best) score = bonuses.score(trie.point(node), first, length);
+            Found found = new Found(first, length, score);
+            if (top.size() < topN) top.add(found.copy());
+            else if (compare(found, top.peek()) < 0) {
+                top.poll();
+                top.add(found.copy());
+            }
+        }
+        Word[] result = new Word[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) result[i] = toWord(top.poll());
+        return List.of(result);
+    }
+
+    /** Adds the path {@code parent + cell} if it spells a prefix, and its extensions. */
+    private void extend(int parent, int cell) {
+        int node = trie.child(parent < 0 ? Trie.ROOT : nodes[parent], letters[cell]);
+        if (node == Trie.NONE) return;
+        if (size == nodes.length) grow();
+        int index = size++;
+        nodes[index] = node;
+        parents[index] = parent;
+        lastCells[index] = (byte) cell;
+        masks[index] = (parent < 0 ? 0L : masks[parent]) | 1L << cell;
+        lengths[index] = (byte) (parent < 0 ? 1 : lengths[parent] + 1);
+        for (int k = grid.neighborStart[cell]; k < grid.neighborStart[cell + 1]; k++)
+            if ((masks[index] & 1L << grid.neighbors[k]) == 0)
+                extend(index, grid.neighbors[k]);
+    }
+
+    private void grow() {
+        int capacity = size * 2;
+        nodes = Arrays.copyOf(nodes, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        lastCells = Arrays.copyOf(lastCells, capacity);
+        masks = Arrays.copyOf(masks, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+
+    /**
+     * Returns the key of the word a stored path spells, using {@code codes}
+     * as scratch.
+     */
+    private int key(int index, int[] codes) {
+        if (!trie.isMinimized()) return nodes[index];
+        int length = path(index, codes);
+        for (int i = 0; i < length; i++) codes[i] = letters[codes[i]];
+        return trie.wordKey(nodes[index], codes, length);
+    }
+
+    /** Writes the cells of a stored path into {@code cells} and returns its length. */
+    private int path(int index, int[] cells) {
+        int length = lengths[index];
+        for (int i = length - 1; i >= 0; i--) {
+            cells[i] = lastCells[index];
+            index = parents[index];
+        }
+        return length;
+    }
+
+    /** Checks whether path {@code a} comes before path {@code b} in DFS order. */
+    private boolean precedes(int[] a, int lengthA, int[] b, int lengthB) {
+        for (int i = 0; i < Math.min(lengthA, lengthB); i++) {
+            if (a[i] == b[i]) continue;
+            if (i == 0) return a[0] < b[0];
+            return rank[a[i - 1] * grid.cells + a[i]] < rank[b[i - 1] * grid.cells + b[i]];
+        }
+        return lengthA < lengthB;
+    }
+
+    /** Ranking of {@link Finder}: score descending, then word. */
+    private int compare(Found a, Found b) {
+        if (a.score != b.score) return a.score > b.score ? -1 : 1;
+        for (int i = 0; i < Math.min(a.length, b.length); i++) {
+            int diff = letters[a.cells[i]] - letters[b.cells[i]];
+            if (diff != 0) return diff;
+        }
+        return a.length - b.length;
+    }
+
+    private Word toWord(Found found) {
+        char[] chars = new char[found.length];
+        Point[] path = new Point[found.length];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Alphabet.letterOf(letters[found.cells[i]]);
+            path[i] = grid.points[found.cells[i]];
+        }
+        return new Word(new String(chars), found.score, List.of(path));
+    }
+
+    /** A word's reported path and its score. */
+    private record Found(int[] cells, int length, long score) {
+
+        /** @return Copy that owns its cells (the scratch buffer gets reused) */
+        Found copy() {
+            return new Found(Arrays.copyOf(cells, length), length, score);
+        }
+    }
+
+}
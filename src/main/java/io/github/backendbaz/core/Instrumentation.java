@@ -0,0 +1,115 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.LoadStats;
+import io.github.backendbaz.models.SolveStats;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of {@link SolveListener}s and publisher of the library's JFR
+ * events.
+ * <p>
+ * Every solve and every dictionary load is reported to the registered
+ * listeners and recorded as a JFR event ({@code io.github.backendbaz.Solve},
+ * {@code io.github.backendbaz.DictionaryLoad}) when a recording enables it:
+ * </p>
+ * <pre>{@code
+ * java -XX:StartFlightRecording:filename=solve.jfr ...
+ * jfr print --events io.github.backendbaz.Solve solve.jfr
+ * }</pre>
+ * <p>
+ * With no listener and no recording, a solve only checks one array length
+ * and one JFR flag; counters are always maintained by the search, but clocks
+ * are read and statistics built only when someone is listening.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see SolveListener
+ */
+public final class Instrumentation {
+
+    private static final SolveListener[] NONE = new SolveListener[0];
+
+    /** Registered listeners (copy on write). */
+    private static volatile SolveListener[] listeners = discover();
+
+    private Instrumentation() {
+    }
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener Listener to call for every solve and load
+     */
+    public static synchronized void addListener(SolveListener listener) {
+        if (listener == null) throw new NullPointerException("listener is null");
+        SolveListener[] current = listeners;
+        SolveListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Unregisters a listener; does nothing if it is not registered.
+     *
+     * @param listener Listener to remove
+     */
+    public static synchronized void removeListener(SolveListener listener) {
+        List<SolveListener> updated = new ArrayList<>(List.of(listeners));
+        if (updated.remove(listener))
+            listeners = updated.toArray(NONE);
+    }
+
+    /** @return {@code true} if solves need to be measured */
+    static boolean solvesObserved() {
+        return listeners.length != 0 || SolveEvent.ENABLED.isEnabled();
+    }
+
+    /** @return {@code true} if dictionary loads need to be measured */
+    static boolean loadsObserved() {
+        return listeners.length != 0 || DictionaryLoadEvent.ENABLED.isEnabled();
+    }
+
+    /**
+     * Publishes the statistics of a solve.
+     *
+     * @param stats Counters and timings
+     */
+    static void solved(SolveStats stats) {
+        SolveEvent.commit(stats);
+        for (SolveListener listener : listeners) {
+            try {
+                listener.onSolve(stats);
+            } catch (RuntimeException ignored) {
+                // شنونده‌ی خراب نباید حل جدول را خراب کند
+            }
+        }
+    }
+
+    /**
+     * Publishes the statistics of a dictionary load.
+     *
+     * @param stats Source and trie statistics
+     */
+    static void loaded(LoadStats stats) {
+        DictionaryLoadEvent.commit(stats);
+        for (SolveListener listener : listeners) {
+            try {
+                listener.onLoad(stats);
+            } catch (RuntimeException ignored) {
+                // شنونده‌ی خراب نباید بارگذاری را خراب کند
+            }
+        }
+    }
+
+    private static SolveListener[] discover() {
+        List<SolveListener> found = new ArrayList<>();
+        ServiceLoader.load(SolveListener.class, Instrumentation.class.getClassLoader())
+                .forEach(found::add);
+        return found.toArray(NONE);
+    }
+
+}
@@ -0,0 +1,141 @@
+package io.github.backendbaz.core;
+
+import java.util.Arrays;
+
+/**
+ * Table-driven {@link ScoringStrategy}: a value per letter code, an optional
+ * share of the dictionary point and optional bonuses for word lengths.
+ * <p>
+ * Instances are immutable; the {@code with...} methods return modified copies.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * int[] values = new int[Alphabet.SIZE];
+ * Arrays.fill(values, 1);
+ * ScoringStrategy perLetter = LetterValueScoring.of(values)
+ *         .withLengthBonus(5, 3)
+ *         .withLengthBonus(6, 6);
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see ScoringStrategy
+ */
+public final class LetterValueScoring implements ScoringStrategy {
+
+    /** Tile values of {@link Alphabet}. */
+    private static final int[] TILES = new int[Alphabet.SIZE];
+
+    static {
+        for (int code = 0; code < Alphabet.SIZE; code++)
+            TILES[code] = Alphabet.valueOf(code);
+    }
+
+    /**
+     * The original game's scoring: the dictionary point of the word, with
+     * letter bonuses multiplying the tile values.
+     */
+    public static final LetterValueScoring DICTIONARY =
+            new LetterValueScoring(1, new int[Alphabet.SIZE], TILES, new int[0]);
+
+    /**
+     * Sum of the tile values of the word's letters, ignoring the dictionary
+     * points. Scores the bundled dictionary exactly like {@link #DICTIONARY}.
+     */
+    public static final LetterValueScoring TILE_VALUES =
+            new LetterValueScoring(0, TILES, TILES, new int[0]);
+
+    private final int pointWeight;
+    private final int[] letterValues;
+    private final int[] bonusValues;
+
+    /** Bonus per word length (index = length); longer words get none. */
+    private final int[] lengthBonuses;
+
+    private LetterValueScoring(int pointWeight, int[] letterValues,
+                               int[] bonusValues, int[] lengthBonuses) {
+        this.pointWeight = pointWeight;
+        this.letterValues = letterValues;
+        this.bonusValues = bonusValues;
+        this.lengthBonuses = lengthBonuses;
+    }
+
+    /**
+     * Creates a strategy that scores a word as the sum of its letters'
+     * values; letter bonuses multiply the same values.
+     *
+     * @param values Value per letter code ({@link Alphabet#SIZE} entries)
+     * @return New strategy, ignoring the dictionary points
+     * @throws IllegalArgumentException If the table has the wrong size or a
+     *                                  negative value
+     */
+    public static LetterValueScoring of(int[] values) {
+        if (values.length != Alphabet.SIZE)
+            throw new IllegalArgumentException("Expected " + Alphabet.SIZE +
+                    " letter values but got " + values.length);
+        for (int value : values)
+            if (value < 0) throw new IllegalArgumentException("Letter values " +
+                    "must not be negative");
+        int[] copy = values.clone();
+        return new LetterValueScoring(0, copy, copy, new int[0]);
+    }
+
+    /**
+     * Returns a copy that also adds the dictionary point of each word,
+     * multiplied by {@code weight}.
+     *
+     * @param weight Non-negative factor ({@code 0} to ignore the points)
+     * @return New strategy
+     * @throws IllegalArgumentException If the weight is negative
+     */
+    public LetterValueScoring withPointWeight(int weight) {
+        if (weight < 0) throw new IllegalArgumentException("Point weight must " +
+                "not be negative");
+        return new LetterValueScoring(weight, letterValues, bonusValues,
+                lengthBonuses);
+    }
+
+    /**
+     * Returns a copy that adds {@code points} to every word of exactly
+     * {@code length} letters, replacing any earlier bonus for that length.
+     *
+     * @param length Word length ({@code 2..64})
+     * @param points Non-negative points
+     * @return New strategy
+     * @throws IllegalArgumentException If an argument is out of range
+     */
+    public LetterValueScoring withLengthBonus(int length, int points) {
+        if (length < WordSearch.MIN_LENGTH || length > Long.SIZE)
+            throw new IllegalArgumentException("Word length must be between " +
+                    WordSearch.MIN_LENGTH + " and " + Long.SIZE);
+        if (points < 0) throw new IllegalArgumentException("Length bonus must " +
+                "not be negative");
+        int[] bonuses = Arrays.copyOf(lengthBonuses, Math.max(length + 1,
+                lengthBonuses.length));
+        bonuses[length] = points;
+        return new LetterValueScoring(pointWeight, letterValues, bonusValues,
+                bonuses);
+    }
+
+    @Override
+    public int pointWeight() {
+        return pointWeight;
+    }
+
+    @Override
+    public int letterValue(int code) {
+        return letterValues[code];
+    }
+
+    @Override
+    public int bonusValue(int code) {
+        return bonusValues[code];
+    }
+
+    @Override
+    public int lengthBonus(int length) {
+        return length < lengthBonuses.length ? lengthBonuses[length] : 0;
+    }
+
+}
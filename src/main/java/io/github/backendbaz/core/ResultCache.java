@@ -0,0 +1,390 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import io.github.backendbaz.models.Bonus;
+import io.github.backendbaz.models.PathMode;
+import io.github.backendbaz.models.SolveRequest;
+import io.github.backendbaz.models.Word;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, thread-safe cache of search results for repeated boards.
+ * <p>
+ * Boards are reduced to a canonical form across the eight rotations and
+ * reflections of the grid before they are looked up, so a rotated or
+ * mirrored copy of a cached board is a hit. The key also covers the board
+ * size, the number of requested words, the bonus cells (transformed
+ * together with the board), the values of the scoring strategy and the
+ * {@link PathMode}. Paths of a hit are mapped back into the caller's
+ * orientation.
+ * </p>
+ * <p>
+ * Every result is computed on the canonical board, so the same board always
+ * gets the same answer from a cache, hit or miss. Words, points and ranking
+ * equal those of {@link Finder}; a word's path may be a different (equally
+ * valid) path than the one an uncached search reports first. Requests with
+ * multipliers above 1 make scores depend on the chosen path, so those are
+ * cached per exact orientation instead.
+ * </p>
+ *
+ * <p>
+ * Concurrent lookups of the same board run one search: the first miss
+ * registers the result before computing it, and lookups arriving while it
+ * is computed wait for it instead of searching again, so the expiry of a
+ * popular board (e.g. the daily puzzle) costs a single search.
+ * </p>
+ *
+ * <h2>Eviction:</h2>
+ * <ul>
+ *   <li><b>size:</b> the least recently used entry is dropped once the cache
+ *       holds more than {@code maximumSize} boards</li>
+ *   <li><b>time:</b> entries older than the time-to-live are treated as
+ *       misses and dropped when next read, or by {@link #cleanUp()}</li>
+ * </ul>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * ResultCache cache = new ResultCache(dictionary, 10_000, Duration.ofHours(24));
+ * List<Word> words = cache.findTopWords(letters, 10, "");
+ * ResultCache.Stats stats = cache.stats();
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Finder
+ */
+public final class ResultCache {
+
+    private final Dictionary dictionary;
+    private final int maximumSize;
+
+    /** Time-to-live in nanoseconds, or {@code 0} to never expire. */
+    private final long timeToLive;
+
+    private final LongSupplier ticker;
+    private final Object lock = new Object();
+
+    /** Canonical key to result, in access order (eldest first). */
+    private final LinkedHashMap<String, Entry> entries =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Creates a cache whose entries never expire.
+     *
+     * @param dictionary Dictionary to search
+     * @param maximumSize Maximum number of cached boards
+     */
+    public ResultCache(Dictionary dictionary, int maximumSize) {
+        this(dictionary, maximumSize, Duration.ZERO);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param dictionary Dictionary to search
+     * @param maximumSize Maximum number of cached boards
+     * @param timeToLive How long a result stays valid ({@link Duration#ZERO}
+     *                   to never expire)
+     */
+    public ResultCache(Dictionary dictionary, int maximumSize, Duration timeToLive) {
+        this(dictionary, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    ResultCache(Dictionary dictionary, int maximumSize, Duration timeToLive,
+                LongSupplier ticker) {
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("maximumSize must be positive " +
+                    "number");
+        if (timeToLive.isNegative())
+            throw new IllegalArgumentException("timeToLive must not be negative");
+        this.dictionary = dictionary;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Cached equivalent of {@link Finder#findTopWords(Dictionary, int, String)}
+     * for a 4x4 board.
+     *
+     * @param letters Space-separated string of 16 Persian letters
+     * @param topN Number of top results to return
+     * @param highPointLetter a high-score letter to filter list of words
+     * @return Sorted list of top {@code topN} words
+     * @throws InvalidLettersException If the letters are not a valid board
+     */
+    public List<Word> findTopWords(String letters, int topN, String highPointLetter)
+            throws InvalidLettersException {
+        Finder finder = new Finder(letters);
+        return lookup(finder, Finder.toRequest(topN, highPointLetter,
+                finder.geometry()));
+    }
+
+    /**
+     * Cached equivalent of {@link Finder#findTopWords(Dictionary, SolveRequest)}
+     * for a 4x4 board.
+     *
+     * @param letters Space-separated string of 16 Persian letters
+     * @param request Number of words, bonus cells and filter
+     * @return Sorted list of the top words
+     * @throws InvalidLettersException If the letters are not a valid board
+     */
+    public List<Word> findTopWords(String letters, SolveRequest request)
+            throws InvalidLettersException {
+        return lookup(new Finder(letters), request);
+    }
+
+    /**
+     * Cached equivalent of {@link Finder#findTopWords(Dictionary, SolveRequest)}.
+     *
+     * @param letters Space-separated Persian letters, one per cell
+     * @param size Board dimensions
+     * @param request Number of words, bonus cells and filter
+     * @return Sorted list of the top words
+     * @throws InvalidLettersException If the letters are not a valid board
+     */
+    public List<Word> findTopWords(String letters, GridSize size,
+                                   SolveRequest request)
+            throws InvalidLettersException {
+        return lookup(new Finder(letters, size), request);
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return Hit, miss and eviction counts and the current size
+     */
+    public Stats stats() {
+        synchronized (lock) {
+            return new Stats(hits, misses, evictions, entries.size());
+        }
+    }
+
+    /** Drops every expired entry. */
+    public void cleanUp() {
+        if (timeToLive == 0) return;
+        long now = ticker.getAsLong();
+        synchronized (lock) {
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext())
+                if (it.next().isExpired(now)) {
+                    it.remove();
+                    evictions++;
+                }
+        }
+    }
+
+    /** Drops every entry; statistics are kept. */
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+        }
+    }
+
+    private List<Word> lookup(Finder finder, SolveRequest request) {
+        Grid grid = finder.geometry();
+        int[] board = finder.board();
+        Symmetry orientation = Symmetry.IDENTITY;
+        String key = key(grid, board, request, orientation);
+        if (!scoresPaths(request))
+            for (Symmetry symmetry : Symmetry.values()) {
+                if (symmetry == Symmetry.IDENTITY) continue;
+                String candidate = key(grid, board, request, symmetry);
+                if (candidate.compareTo(key) < 0) {
+                    key = candidate;
+                    orientation = symmetry;
+                }
+            }
+        long now = ticker.getAsLong();
+        Trie trie = dictionary.getTrie();
+        Entry entry;
+        boolean computes = false;
+        synchronized (lock) {
+            entry = entries.get(key);
+            // نتیجه‌های پیش از بارگذاری دوباره‌ی دیکشنری کهنه‌اند
+            if (entry != null && (entry.trie != trie ||
+                    timeToLive != 0 && entry.isExpired(now))) {
+                entries.remove(key);
+                evictions++;
+                entry = null;
+            }
+            if (entry != null) {
+                hits++;
+            } else {
+                // ثبت پیش از جستجو تا درخواست‌های هم‌زمان منتظر همین نتیجه بمانند
+                misses++;
+                computes = true;
+                entry = new Entry(trie, new CompletableFuture<>(), now + timeToLive);
+                entries.put(key, entry);
+                // حذف قدیمی‌ترین ورودی‌ها (LRU)
+                Iterator<Entry> it = entries.values().iterator();
+                while (entries.size() > maximumSize) {
+                    it.next();
+                    it.remove();
+                    evictions++;
+                }
+            }
+        }
+        if (computes) {
+            try {
+                entry.words.complete(solve(trie, grid, board, request, orientation));
+            } catch (RuntimeException | Error e) {
+                synchronized (lock) {
+                    entries.remove(key, entry);
+                }
+                entry.words.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return restore(await(entry.words), grid, orientation);
+    }
+
+    /** Waits for a result, rethrowing the failure of the search behind it. */
+    private static List<Word> await(CompletableFuture<List<Word>> words) {
+        try {
+            return words.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException failure) throw failure;
+            if (e.getCause() instanceof Error failure) throw failure;
+            throw e;
+        }
+    }
+
+    /** Solves the board in the given orientation, in transformed coordinates. */
+    private static List<Word> solve(Trie trie, Grid grid, int[] board,
+                                    SolveRequest request, Symmetry symmetry) {
+        if (symmetry == Symmetry.IDENTITY)
+            return new Finder(grid, board).findTopWords(new WordSearch(trie), request);
+        int[] mapping = symmetry.cells(grid.size);
+        int[] transformed = new int[board.length];
+        for (int cell = 0; cell < board.length; cell++)
+            transformed[mapping[cell]] = board[cell];
+        List<Bonus> bonuses = new ArrayList<>(request.bonuses().size());
+        for (Bonus bonus : request.bonuses()) {
+            int r = bonus.cell().row();
+            int c = bonus.cell().col();
+            bonuses.add(new Bonus(new Point(symmetry.row(r, c, grid.rows, grid.cols),
+                    symmetry.col(r, c, grid.rows, grid.cols)), bonus.kind(),
+                    bonus.multiplier()));
+        }
+        return new Finder(Grid.of(symmetry.apply(grid.size)), transformed)
+                .findTopWords(new WordSearch(trie), new SolveRequest(
+                        request.topN(), bonuses, request.bonusRequired(),
+                        request.scoring(), request.pathMode()));
+    }
+
+    /** Maps the paths of a transformed result back to the caller's grid. */
+    private static List<Word> restore(List<Word> words, Grid grid,
+                                      Symmetry symmetry) {
+        if (symmetry == Symmetry.IDENTITY) return words;
+        int[] mapping = symmetry.cells(grid.size);
+        int[] inverse = new int[mapping.length];
+        for (int cell = 0; cell < mapping.length; cell++)
+            inverse[mapping[cell]] = cell;
+        int cols = symmetry.apply(grid.size).cols();
+        List<Word> restored = new ArrayList<>(words.size());
+        for (Word word : words) {
+            Point[] path = new Point[word.path().size()];
+            for (int i = 0; i < path.length; i++) {
+                Point point = word.path().get(i);
+                path[i] = grid.points[inverse[point.row() * cols + point.col()]];
+            }
+            restored.add(new Word(word.word(), word.point(), List.of(path)));
+        }
+        return Collections.unmodifiableList(restored);
+    }
+
+    /**
+     * Encodes a board and request as seen through a symmetry; the smallest
+     * encoding over all symmetries is the canonical key.
+     */
+    private static String key(Grid grid, int[] board, SolveRequest request,
+                              Symmetry symmetry) {
+        GridSize size = symmetry.apply(grid.size);
+        int[] mapping = symmetry.cells(grid.size);
+        char[] letters = new char[board.length];
+        for (int cell = 0; cell < board.length; cell++)
+            letters[mapping[cell]] = Alphabet.letterOf(board[cell]);
+        int[] bonuses = new int[request.bonuses().size()];
+        for (int i = 0; i < bonuses.length; i++) {
+            Bonus bonus = request.bonuses().get(i);
+            int r = bonus.cell().row();
+            int c = bonus.cell().col();
+            int cell = symmetry.row(r, c, grid.rows, grid.cols) * size.cols() +
+                    symmetry.col(r, c, grid.rows, grid.cols);
+            bonuses[i] = (cell * 2 + bonus.kind().ordinal()) * 10 +
+                    bonus.multiplier();
+        }
+        Arrays.sort(bonuses);
+        StringBuilder key = new StringBuilder(board.length + 32)
+                .append(size.rows()).append('x').append(size.cols()).append(':')
+                .append(letters).append(':').append(request.topN());
+        for (int bonus : bonuses) key.append(',').append(bonus);
+        key.append(request.bonusRequired() ? ":R" : "");
+        key.append(request.pathMode() == PathMode.BEST ? ":B" : "");
+        if (request.scoring() != LetterValueScoring.DICTIONARY)
+            appendScoring(key, request.scoring(), board.length);
+        return key.toString();
+    }
+
+    /** Appends every value of a scoring strategy that a board can use. */
+    private static void appendScoring(StringBuilder key, ScoringStrategy scoring,
+                                      int cells) {
+        key.append(":S").append(scoring.pointWeight());
+        for (int code = 0; code < Alphabet.SIZE; code++)
+            key.append(',').append(scoring.letterValue(code)).append('/')
+                    .append(scoring.bonusValue(code));
+        for (int length = WordSearch.MIN_LENGTH; length <= cells; length++)
+            key.append(',').append(scoring.lengthBonus(length));
+    }
+
+    /** @return {@code true} if a word's score can depend on its path */
+    private static boolean scoresPaths(SolveRequest request) {
+        for (Bonus bonus : request.bonuses())
+            if (bonus.multiplier() > 1) return true;
+        return false;
+    }
+
+    /**
+     * Cached result in canonical coordinates, for the trie it was found in;
+     * incomplete while its search is running.
+     */
+    private record Entry(Trie trie, CompletableFuture<List<Word>> words,
+                         long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Cache statistics.
+     *
+     * @param hits      Lookups answered from the cache, including those that
+     *                  waited for a search already running for their board
+     * @param misses    Lookups that ran a search
+     * @param evictions Entries dropped for size or age
+     * @param size      Number of cached boards
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+
+        /**
+         * Returns the fraction of lookups answered from the cache.
+         *
+         * @return Hit rate in {@code [0, 1]}, or {@code 0} before any lookup
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.backendbaz.core;
+
+/**
+ * Decides how a found word is scored, so one dictionary can serve several
+ * game modes.
+ * <p>
+ * A strategy is a set of tables rather than a function of the whole word:
+ * the solver reads them once per board and then adds the value of each cell
+ * as the search steps onto it, so scoring costs nothing extra per word. A
+ * word found on cells {@code c1..cn} scores
+ * </p>
+ * <pre>
+ * (pointWeight * point + sum(letterValue(ci) + letterBonusExtra(ci))) * wordMultipliers
+ *         + lengthBonus(n)
+ * </pre>
+ * <p>
+ * where {@code point} is the word's dictionary point, a
+ * {@link io.github.backendbaz.models.Bonus.Kind#LETTER letter} bonus of
+ * multiplier {@code m} adds {@code (m - 1) * bonusValue} of its letter, and
+ * {@code wordMultipliers} is the product of the
+ * {@link io.github.backendbaz.models.Bonus.Kind#WORD word} bonuses on the
+ * path. Every value must be non-negative, and the same arguments must always
+ * give the same value.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * SolveRequest request = SolveRequest.top(10)
+ *         .withScoring(LetterValueScoring.TILE_VALUES.withLengthBonus(6, 5));
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see LetterValueScoring
+ */
+public interface ScoringStrategy {
+
+    /**
+     * @return Factor applied to the dictionary point of a word ({@code 0}
+     *         to ignore the dictionary's points)
+     */
+    int pointWeight();
+
+    /**
+     * @param code Letter code in {@code 0..31}
+     * @return Points each occurrence of the letter in a word adds
+     */
+    int letterValue(int code);
+
+    /**
+     * @param code Letter code in {@code 0..31}
+     * @return Value a letter bonus on a cell with this letter multiplies
+     */
+    int bonusValue(int code);
+
+    /**
+     * @param length Number of letters in the word
+     * @return Points added to the score of a word of this length, after the
+     *         word multipliers
+     */
+    int lengthBonus(int length);
+
+}
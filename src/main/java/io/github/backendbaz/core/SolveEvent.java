@@ -0,0 +1,85 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.SolveStats;
+import jdk.jfr.*;
+
+/**
+ * JFR event recorded for every solved board.
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Instrumentation
+ */
+@Name("io.github.backendbaz.Solve")
+@Label("Board Solve")
+@Category({"Bazambazi", "Word Finder"})
+@Description("A board solved by Finder, with search counters and phase timings")
+@StackTrace(false)
+final class SolveEvent extends Event {
+
+    /** Type of this event, for cheap enabled checks. */
+    static final EventType ENABLED = EventType.getEventType(SolveEvent.class);
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int cols;
+
+    @Label("Top N")
+    int topN;
+
+    @Label("Parallel")
+    boolean parallel;
+
+    @Label("Nodes Visited")
+    long nodesVisited;
+
+    @Label("Dead Ends")
+    long deadEnds;
+
+    @Label("Pruned Branches")
+    long prunedBranches;
+
+    @Label("Words Found")
+    long wordsFound;
+
+    @Label("Duplicates")
+    long duplicates;
+
+    @Label("Words Returned")
+    int wordsReturned;
+
+    @Label("Validate Time")
+    @Timespan
+    long validateNanos;
+
+    @Label("Search Time")
+    @Timespan
+    long searchNanos;
+
+    @Label("Rank Time")
+    @Timespan
+    long rankNanos;
+
+    /** Records a solve if the event is enabled. */
+    static void commit(SolveStats stats) {
+        SolveEvent event = new SolveEvent();
+        if (!event.shouldCommit()) return;
+        event.rows = stats.size().rows();
+        event.cols = stats.size().cols();
+        event.topN = stats.topN();
+        event.parallel = stats.parallel();
+        event.nodesVisited = stats.nodesVisited();
+        event.deadEnds = stats.deadEnds();
+        event.prunedBranches = stats.prunedBranches();
+        event.wordsFound = stats.wordsFound();
+        event.duplicates = stats.duplicates();
+        event.wordsReturned = stats.wordsReturned();
+        event.validateNanos = stats.validateNanos();
+        event.searchNanos = stats.searchNanos();
+        event.rankNanos = stats.rankNanos();
+        event.commit();
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.LoadStats;
+import io.github.backendbaz.models.SolveStats;
+
+/**
+ * Receives statistics of every solved board and every loaded dictionary
+ * source, e.g. to feed a metrics system or to log slow boards.
+ * <p>
+ * Listeners are registered with {@link Instrumentation#addListener}, or
+ * discovered through {@link java.util.ServiceLoader} (a
+ * {@code provides io.github.backendbaz.core.SolveListener with ...} clause, or
+ * a {@code META-INF/services} entry on the class path). While no listener is
+ * registered and the JFR events are disabled, nothing is measured.
+ * </p>
+ * <p>
+ * Callbacks run synchronously on the thread that solved the board or loaded
+ * the dictionary, so they should be fast and thread-safe. Exceptions thrown by
+ * a listener are ignored.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * Instrumentation.addListener(new SolveListener() {
+ *     @Override
+ *     public void onSolve(SolveStats stats) {
+ *         if (stats.totalNanos() > 5_000_000) log.warn("Slow board: {}", stats);
+ *     }
+ * });
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Instrumentation
+ */
+public interface SolveListener {
+
+    /**
+     * Called after a board has been solved.
+     *
+     * @param stats Counters and timings of the solve
+     */
+    default void onSolve(SolveStats stats) {
+    }
+
+    /**
+     * Called after a source has been loaded into a dictionary.
+     *
+     * @param stats Statistics of the source and the resulting trie
+     */
+    default void onLoad(LoadStats stats) {
+    }
+
+}
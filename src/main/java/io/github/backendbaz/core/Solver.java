@@ -0,0 +1,186 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.Bonus;
+import io.github.backendbaz.models.PathMode;
+import io.github.backendbaz.models.SolveRequest;
+import io.github.backendbaz.models.SolveResult;
+import io.github.backendbaz.models.Word;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reusable, thread-safe solver bound to one {@link Dictionary}.
+ * <p>
+ * Where a {@link Finder} is built for one input string, a solver is created
+ * once and then solves any number of pre-parsed {@link Board boards}, from
+ * any number of threads. Each thread gets its own search scratch state (the
+ * result heap, path buffers and letter counters of the search) on its first
+ * solve and reuses it for every later one, so a solve allocates little more
+ * than the words it returns. Results are identical to those of
+ * {@link Finder#findTopWords(Dictionary, SolveRequest)} for the same letters.
+ * </p>
+ * <p>
+ * The scratch state lives as long as its thread (and this solver), which
+ * suits pools of long-lived workers; a virtual thread per board would
+ * recreate it for every solve.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * Solver solver = new Solver(Dictionary.getDefault());
+ * for (String letters : inputs) {
+ *     List<Word> words = solver.solve(Board.parse(letters), SolveRequest.top(10));
+ * }
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Board
+ * @see Finder
+ */
+public final class Solver {
+
+    /** Seed of the boards {@link #warmUp(int)} solves. */
+    private static final long WARM_UP_SEED = 0x5EED;
+
+    private final Dictionary dictionary;
+
+    /** Search scratch state of each thread. */
+    private final ThreadLocal<Scratch> scratch = new ThreadLocal<>();
+
+    /**
+     * Creates a solver for a dictionary.
+     *
+     * @param dictionary Preloaded word dictionary
+     */
+    public Solver(Dictionary dictionary) {
+        this.dictionary = Objects.requireNonNull(dictionary, "dictionary is null");
+    }
+
+    /** @return The dictionary this solver searches */
+    public Dictionary dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Finds the top-scoring words of a board without bonuses.
+     *
+     * @param board Parsed board
+     * @param topN  Number of top results to return
+     * @return Sorted list of the top words by score (descending, ties in word
+     *         order), or empty list if none found
+     */
+    public List<Word> solve(Board board, int topN) {
+        return solve(board, SolveRequest.top(topN));
+    }
+
+    /**
+     * Finds the top-scoring words of a board, exactly like
+     * {@link Finder#findTopWords(Dictionary, SolveRequest)}.
+     *
+     * @param board   Parsed board
+     * @param request Number of words, bonus cells, filter, scoring and path mode
+     * @return Sorted list of the top words by score (descending, ties in word
+     *         order), or empty list if none found
+     * @throws IllegalArgumentException If a bonus cell lies outside the grid
+     */
+    public List<Word> solve(Board board, SolveRequest request) {
+        Scratch state = scratch();
+        Grid geometry = board.geometry();
+        if (state.grid.length != geometry.cells) state.grid = new int[geometry.cells];
+        board.copyTo(state.grid);
+        return new Finder(geometry, state.grid).findTopWords(state.search, request);
+    }
+
+    /**
+     * Finds the top-scoring words of a board within a time budget, exactly
+     * like {@link Finder#findTopWords(Dictionary, SolveRequest, Duration,
+     * CancellationToken)}.
+     *
+     * @param board        Parsed board
+     * @param request      Number of words, bonus cells, filter, scoring and path mode
+     * @param budget       Longest time the search may take
+     * @param cancellation Token that stops the search when cancelled
+     * @return Best words found, and whether the search covered the whole board
+     * @throws IllegalArgumentException If a bonus cell lies outside the grid
+     *                                  or the budget is negative
+     */
+    public SolveResult solve(Board board, SolveRequest request, Duration budget,
+                             CancellationToken cancellation) {
+        Scratch state = scratch();
+        Grid geometry = board.geometry();
+        if (state.grid.length != geometry.cells) state.grid = new int[geometry.cells];
+        board.copyTo(state.grid);
+        return new Finder(geometry, state.grid).findTopWords(state.search, request,
+                budget, cancellation);
+    }
+
+    /**
+     * Solves generated boards so that the parsing, search and ranking code
+     * is compiled by the JIT before the first real request, e.g. when a new
+     * server instance starts.
+     * <p>
+     * The boards come from a {@link BoardGenerator} with a fixed seed, mostly
+     * {@link BoardGenerator.Mode#DENSE dense} with some sparse and
+     * adversarial ones, and are parsed from text like real input. The
+     * requests alternate between a few words, many words, and bonuses with
+     * {@link PathMode#BEST best paths}, so every common search path is
+     * exercised. A few thousand solves (about a second) are usually enough.
+     * </p>
+     *
+     * @param solves Number of boards to solve
+     * @return This solver (fluent interface)
+     * @throws IllegalArgumentException If {@code solves} is negative
+     */
+    public Solver warmUp(int solves) {
+        if (solves < 0) throw new IllegalArgumentException("solves must not " +
+                "be negative");
+        BoardGenerator generator = new BoardGenerator(dictionary, WARM_UP_SEED);
+        SolveRequest[] requests = {
+                SolveRequest.top(10),
+                SolveRequest.top(1000),
+                SolveRequest.top(10)
+                        .withBonus(Bonus.letter(0, 1, 2))
+                        .withBonus(Bonus.word(2, 2, 3))
+                        .withPathMode(PathMode.BEST)
+        };
+        for (int i = 0; i < solves; i++) {
+            BoardGenerator.Mode mode = i % 8 == 7 ? BoardGenerator.Mode.ADVERSARIAL :
+                    i % 4 == 3 ? BoardGenerator.Mode.SPARSE : BoardGenerator.Mode.DENSE;
+            Board board = Board.parse(generator.next(mode).toString());
+            solve(board, requests[i % requests.length]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns this thread's scratch state for the dictionary's current trie,
+     * which a legacy {@link Dictionary#load()} may have replaced.
+     */
+    private Scratch scratch() {
+        Trie trie = dictionary.getTrie();
+        Scratch state = scratch.get();
+        if (state == null || state.trie != trie) {
+            state = new Scratch(trie);
+            scratch.set(state);
+        }
+        return state;
+    }
+
+    /** Per-thread state reused across solves. */
+    private static final class Scratch {
+
+        private final Trie trie;
+        private final WordSearch search;
+
+        /** Letter code per cell of the board being solved. */
+        private int[] grid = new int[0];
+
+        Scratch(Trie trie) {
+            this.trie = trie;
+            search = new WordSearch(trie);
+        }
+    }
+
+}
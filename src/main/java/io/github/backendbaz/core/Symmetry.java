@@ -0,0 +1,97 @@
+package io.github.backendbaz.core;
+
+/**
+ * The eight rotations and reflections of a grid.
+ * <p>
+ * Each symmetry maps a cell {@code (row, col)} of a {@code rows x cols} grid
+ * to a cell of the transformed grid, which is {@code cols x rows} for the
+ * symmetries that {@link #swapsAxes() swap the axes}. Adjacency (including
+ * diagonals) is preserved, so a board and its transformed copy contain the
+ * same words along corresponding paths.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see ResultCache
+ */
+enum Symmetry {
+
+    IDENTITY(false) {
+        @Override int row(int r, int c, int rows, int cols) { return r; }
+        @Override int col(int r, int c, int rows, int cols) { return c; }
+    },
+    ROTATE_90(true) {
+        @Override int row(int r, int c, int rows, int cols) { return c; }
+        @Override int col(int r, int c, int rows, int cols) { return rows - 1 - r; }
+    },
+    ROTATE_180(false) {
+        @Override int row(int r, int c, int rows, int cols) { return rows - 1 - r; }
+        @Override int col(int r, int c, int rows, int cols) { return cols - 1 - c; }
+    },
+    ROTATE_270(true) {
+        @Override int row(int r, int c, int rows, int cols) { return cols - 1 - c; }
+        @Override int col(int r, int c, int rows, int cols) { return r; }
+    },
+    MIRROR_COLUMNS(false) {
+        @Override int row(int r, int c, int rows, int cols) { return r; }
+        @Override int col(int r, int c, int rows, int cols) { return cols - 1 - c; }
+    },
+    MIRROR_ROWS(false) {
+        @Override int row(int r, int c, int rows, int cols) { return rows - 1 - r; }
+        @Override int col(int r, int c, int rows, int cols) { return c; }
+    },
+    TRANSPOSE(true) {
+        @Override int row(int r, int c, int rows, int cols) { return c; }
+        @Override int col(int r, int c, int rows, int cols) { return r; }
+    },
+    ANTI_TRANSPOSE(true) {
+        @Override int row(int r, int c, int rows, int cols) { return cols - 1 - c; }
+        @Override int col(int r, int c, int rows, int cols) { return rows - 1 - r; }
+    };
+
+    private final boolean swapsAxes;
+
+    Symmetry(boolean swapsAxes) {
+        this.swapsAxes = swapsAxes;
+    }
+
+    /** @return {@code true} if rows become columns */
+    boolean swapsAxes() {
+        return swapsAxes;
+    }
+
+    /** @return Row of {@code (r, c)} in the transformed grid */
+    abstract int row(int r, int c, int rows, int cols);
+
+    /** @return Column of {@code (r, c)} in the transformed grid */
+    abstract int col(int r, int c, int rows, int cols);
+
+    /**
+     * Returns the dimensions of the transformed grid.
+     *
+     * @param size Original dimensions
+     * @return Transformed dimensions
+     */
+    GridSize apply(GridSize size) {
+        return swapsAxes ? new GridSize(size.cols(), size.rows()) : size;
+    }
+
+    /**
+     * Builds the cell mapping of this symmetry for a grid.
+     *
+     * @param size Original dimensions
+     * @return Transformed cell index of every original cell
+     */
+    int[] cells(GridSize size) {
+        int rows = size.rows();
+        int cols = size.cols();
+        int targetCols = apply(size).cols();
+        int[] mapping = new int[rows * cols];
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++)
+                mapping[r * cols + c] = row(r, c, rows, cols) * targetCols +
+                        col(r, c, rows, cols);
+        return mapping;
+    }
+
+}
@@ -0,0 +1,387 @@
+package io.github.backendbaz.core;
+
+import java.nio.IntBuffer;
+
+/**
+ * Compact, immutable trie over {@link Alphabet} letter codes.
+ * <p>
+ * Nodes are identified by {@code int} ids and stored in a single flat
+ * {@code int} table, {@value #STRIDE} slots per node:
+ * </p>
+ * <ul>
+ *   <li><b>child mask:</b> bit {@code c} is set if the node has a child for
+ *       letter code {@code c}</li>
+ *   <li><b>first child:</b> id of the child with the lowest code; siblings are
+ *       laid out contiguously in code order (in a minimized trie, the index
+ *       of the node's first edge instead)</li>
+ *   <li><b>point:</b> point value of the word ending at this node, or
+ *       {@code 0} for an intermediate prefix</li>
+ *   <li><b>bounds:</b> the highest point of any word in this node's subtree
+ *       (including the node itself) in the low 24 bits, and the subtree's
+ *       height (longest remaining suffix) in the high 8 bits; both are used
+ *       to prune searches</li>
+ *   <li><b>needed letters:</b> bit {@code c} is set if every word below
+ *       this node still needs letter code {@code c} after the node's prefix,
+ *       so a path without an unused {@code c} cell cannot complete any of
+ *       them</li>
+ * </ul>
+ * The id of the child for code {@code c} is therefore the first child id plus
+ * the number of set mask bits below {@code c} (bitmap + rank), so a lookup is
+ * a couple of integer operations and no objects are involved.
+ * <p>
+ * A trie can also be <em>minimized</em> into a directed acyclic word graph
+ * (DAWG): nodes below which the same words with the same points remain are
+ * stored once, so the many words sharing a suffix (e.g. {@code "ها"} or
+ * {@code "ستان"}) share its nodes. Siblings are then no longer contiguous;
+ * the first child slot points into a separate edge table that holds the
+ * child ids, so a lookup costs one more read. Because a node's point, bounds
+ * and needed letters only describe the words below it, they stay exact.
+ * A node no longer identifies one word, though, so each word is identified
+ * by its index in code order instead (minimal perfect hashing): every edge
+ * also stores how many words come before those below it among its parent's
+ * words (the parent's own word, if any, and the words below its smaller
+ * siblings), and {@link #wordKey(int, int[], int)} adds these offsets up
+ * along the word.
+ * </p>
+ * <p>
+ * The tables are plain {@code int} arrays when the trie is built from JSON
+ * or read from a packaged snapshot, so a search step is a few array reads.
+ * Only a memory-mapped {@link DictionarySnapshot} file keeps them in an
+ * {@link IntBuffer}, which is traversed in place without being copied.
+ * </p>
+ *
+ * <h2>Trie Structure Example:</h2>
+ * <pre>{@code
+ * Root [0]
+ *  |
+ *  +-- "ض" [1]
+ *        |
+ *        +-- "ر" [2] (point = 4)  // represents word "ضر"
+ * }</pre>
+ *
+ * <h2>Traversal Example:</h2>
+ * <pre>{@code
+ * Trie trie = dictionary.getTrie();
+ * int node = Trie.ROOT;
+ * for (char c : "ضر".toCharArray()) {
+ *     node = trie.child(node, Alphabet.codeOf(c));
+ *     if (node == Trie.NONE) break;
+ * }
+ * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Dictionary
+ * @see Alphabet
+ */
+public final class Trie {
+
+    /** Id of the root node (empty prefix). */
+    public static final int ROOT = 0;
+
+    /** Returned by {@link #child(int, int)} when there is no such child. */
+    public static final int NONE = -1;
+
+    /** Number of {@code int} slots per node. */
+    static final int STRIDE = 5;
+
+    static final int MASK = 0;
+    static final int FIRST_CHILD = 1;
+    static final int POINT = 2;
+    static final int BOUNDS = 3;
+    static final int NEEDED = 4;
+
+    /** Largest point value a word can have (fits the 24-bit bounds field). */
+    public static final int MAX_POINT_VALUE = (1 << 24) - 1;
+
+    /** A trie containing no words. */
+    static final Trie EMPTY = new Trie(new int[STRIDE]);
+
+    /**
+     * Flat node table ({@value #STRIDE} slots per node), or {@code null} for
+     * a mapped trie; never modified.
+     */
+    private final int[] nodes;
+
+    /** Child id per edge of a minimized trie, or {@code null}. */
+    private final int[] edges;
+
+    /** Word index offset per edge of a minimized trie, or {@code null}. */
+    private final int[] offsets;
+
+    /** The three tables of a memory-mapped trie, or {@code null}. */
+    private final IntBuffer mappedNodes;
+    private final IntBuffer mappedEdges;
+    private final IntBuffer mappedOffsets;
+
+    /** Whether the trie has edge tables (see {@link #isMinimized()}). */
+    private final boolean minimized;
+
+    /**
+     * Creates a trie over a prepared node table.
+     *
+     * @param nodes Node table laid out as described in the class comment
+     */
+    Trie(int[] nodes) {
+        this(nodes, null, null);
+    }
+
+    /**
+     * Creates a minimized trie over prepared tables.
+     *
+     * @param nodes   Node table whose first child slots index {@code edges}
+     * @param edges   Child id per edge, grouped by parent in code order
+     * @param offsets Word index offset per edge
+     */
+    Trie(int[] nodes, int[] edges, int[] offsets) {
+        this.nodes = nodes;
+        this.edges = edges;
+        this.offsets = offsets;
+        mappedNodes = mappedEdges = mappedOffsets = null;
+        minimized = edges != null;
+    }
+
+    private Trie(IntBuffer nodes, IntBuffer edges, IntBuffer offsets) {
+        this.nodes = this.edges = this.offsets = null;
+        mappedNodes = nodes;
+        mappedEdges = edges;
+        mappedOffsets = offsets;
+        minimized = edges != null;
+    }
+
+    /**
+     * Creates a trie that reads its tables from a mapped snapshot in place.
+     *
+     * @param nodes   Node table
+     * @param edges   Edge table of a minimized trie, or {@code null}
+     * @param offsets Offset table of a minimized trie, or {@code null}
+     * @return Buffer-backed trie
+     */
+    static Trie mapped(IntBuffer nodes, IntBuffer edges, IntBuffer offsets) {
+        return new Trie(nodes, edges, offsets);
+    }
+
+    /**
+     * Returns the child of a node for a letter code.
+     *
+     * @param node Parent node id
+     * @param code Letter code in {@code 0..31}
+     * @return Child node id, or {@link #NONE} if the prefix does not continue
+     *         with this letter
+     */
+    public int child(int node, int code) {
+        int base = node * STRIDE;
+        int mask = slot(base + MASK);
+        int bit = 1 << code;
+        if ((mask & bit) == 0) return NONE;
+        int child = slot(base + FIRST_CHILD) + Integer.bitCount(mask & (bit - 1));
+        return minimized ? edge(child) : child;
+    }
+
+    /**
+     * Returns the set of letter codes a node has children for.
+     *
+     * @param node Node id
+     * @return Bitmask with bit {@code c} set for every child code {@code c}
+     */
+    public int childMask(int node) {
+        return slot(node * STRIDE + MASK);
+    }
+
+    /**
+     * Checks if a node marks the end of a valid word.
+     *
+     * @param node Node id
+     * @return {@code true} if node completes a word, {@code false} otherwise
+     */
+    public boolean isEndOfWord(int node) {
+        return slot(node * STRIDE + POINT) != 0;
+    }
+
+    /**
+     * Returns the point value of the word ending at a node.
+     *
+     * @param node Node id
+     * @return Point value, or {@code 0} if the node does not complete a word
+     */
+    public int point(int node) {
+        return slot(node * STRIDE + POINT);
+    }
+
+    /**
+     * Returns the highest point of any word that starts with the prefix
+     * represented by a node.
+     *
+     * @param node Node id
+     * @return Maximum point in the node's subtree, or {@code 0} if the trie is empty
+     */
+    public int maxPoint(int node) {
+        return slot(node * STRIDE + BOUNDS) & MAX_POINT_VALUE;
+    }
+
+    /**
+     * Returns how many more letters the longest word below a node needs.
+     *
+     * @param node Node id
+     * @return Height of the node's subtree ({@code 0} for a leaf)
+     */
+    public int height(int node) {
+        return slot(node * STRIDE + BOUNDS) >>> 24;
+    }
+
+    /**
+     * Returns the letters that every word below a node contains after the
+     * node's prefix. Empty if the prefix itself is a word.
+     *
+     * @param node Node id
+     * @return Bitmask of letter codes
+     */
+    public int neededLetters(int node) {
+        return slot(node * STRIDE + NEEDED);
+    }
+
+    /**
+     * Follows a whole word from the root.
+     *
+     * @param word Word to look up
+     * @return Node id reached by the word, or {@link #NONE} if it is not a
+     *         prefix in this trie or contains non-board letters
+     */
+    public int find(CharSequence word) {
+        int node = ROOT;
+        for (int i = 0; i < word.length() && node != NONE; i++) {
+            int code = Alphabet.codeOf(word.charAt(i));
+            if (code < 0) return NONE;
+            node = child(node, code);
+        }
+        return node;
+    }
+
+    /**
+     * Returns an id that tells a word apart from every other word of this
+     * trie: the word's end node in a plain trie, or its index in code order
+     * in a minimized one, where words share end nodes.
+     *
+     * @param node   Node the word ends at
+     * @param codes  Letter codes of the word
+     * @param length Number of letters
+     * @return Word id, never {@link #NONE}
+     */
+    int wordKey(int node, int[] codes, int length) {
+        if (!minimized) return node;
+        int index = 0;
+        node = ROOT;
+        for (int i = 0; i < length; i++) {
+            int base = node * STRIDE;
+            int edge = slot(base + FIRST_CHILD) +
+                    Integer.bitCount(slot(base + MASK) & ((1 << codes[i]) - 1));
+            index += offset(edge);
+            node = edge(edge);
+        }
+        return index;
+    }
+
+    /**
+     * Checks whether nodes are shared between words with a common suffix
+     * (see the class comment).
+     *
+     * @return {@code true} for a minimized trie (DAWG)
+     */
+    public boolean isMinimized() {
+        return minimized;
+    }
+
+    /**
+     * Returns the number of nodes, including the root.
+     *
+     * @return Node count
+     */
+    public int nodeCount() {
+        return (nodes != null ? nodes.length : mappedNodes.limit()) / STRIDE;
+    }
+
+    /**
+     * Returns the number of words in the trie.
+     *
+     * @return Word count
+     */
+    public int wordCount() {
+        if (minimized) {
+            // کلمه‌های یک گره = آفست آخرین یال + کلمه‌های آخرین فرزند
+            int words = 0;
+            for (int node = ROOT; ; ) {
+                int base = node * STRIDE;
+                int mask = slot(base + MASK);
+                if (mask == 0) return words + (slot(base + POINT) != 0 ? 1 : 0);
+                int last = slot(base + FIRST_CHILD) + Integer.bitCount(mask) - 1;
+                words += offset(last);
+                node = edge(last);
+            }
+        }
+        int words = 0;
+        for (int node = 0; node < nodeCount(); node++)
+            if (isEndOfWord(node)) words++;
+        return words;
+    }
+
+    /**
+     * Returns the size of the trie's tables.
+     *
+     * @return Bytes held by the node table, and the edge and offset tables
+     *         of a minimized trie
+     */
+    public long sizeInBytes() {
+        long ints = (long) nodeCount() * STRIDE;
+        if (minimized) ints += 2L * (edges != null ? edges.length :
+                mappedEdges.limit());
+        return ints * Integer.BYTES;
+    }
+
+    /** Reads a slot of the node table. */
+    private int slot(int index) {
+        return nodes != null ? nodes[index] : mappedNodes.get(index);
+    }
+
+    /** Reads the child id of an edge. */
+    private int edge(int index) {
+        return edges != null ? edges[index] : mappedEdges.get(index);
+    }
+
+    /** Reads the word index offset of an edge. */
+    private int offset(int index) {
+        return offsets != null ? offsets[index] : mappedOffsets.get(index);
+    }
+
+    /**
+     * Read-only view of the node table for writers in this package.
+     *
+     * @return The node table
+     */
+    IntBuffer nodes() {
+        return view(nodes, mappedNodes);
+    }
+
+    /**
+     * Read-only view of the edge table for writers in this package.
+     *
+     * @return The edge table, or {@code null} for a plain trie
+     */
+    IntBuffer edges() {
+        return view(edges, mappedEdges);
+    }
+
+    /**
+     * Direct access to the word index offset table for writers in this
+     * package.
+     *
+     * @return The offset table, or {@code null} for a plain trie
+     */
+    IntBuffer offsets() {
+        return view(offsets, mappedOffsets);
+    }
+
+    private static IntBuffer view(int[] table, IntBuffer mapped) {
+        return table != null ? IntBuffer.wrap(table).asReadOnlyBuffer() : mapped;
+    }
+
+}
@@ -0,0 +1,352 @@
+package io.github.backendbaz.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Mutable staging structure used while a {@link Trie} is being loaded.
+ * <p>
+ * Words can arrive in any order, so the builder keeps every node's children
+ * as a sorted singly linked list (first child / next sibling) in parallel
+ * primitive arrays. {@link #build()} then lays the nodes out breadth-first so
+ * that each node's children become contiguous, which is what the compact
+ * bitmap + rank lookup of {@link Trie} relies on. {@link #buildMinimized()}
+ * instead merges equivalent nodes into a DAWG.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+final class TrieBuilder {
+
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private int[] firstChild = new int[INITIAL_CAPACITY];
+    private int[] nextSibling = new int[INITIAL_CAPACITY];
+    private int[] point = new int[INITIAL_CAPACITY];
+    private byte[] code = new byte[INITIAL_CAPACITY];
+
+    /** Number of nodes in use; node 0 is the root. */
+    private int size = 1;
+
+    /** Creates an empty builder. */
+    TrieBuilder() {
+        firstChild[0] = Trie.NONE;
+        nextSibling[0] = Trie.NONE;
+    }
+
+    /**
+     * Creates a builder pre-populated with every word of an existing trie.
+     *
+     * @param base Trie to copy
+     */
+    TrieBuilder(Trie base) {
+        this();
+        addAll(base);
+    }
+
+    /**
+     * Inserts every word of a trie, replacing the points of existing entries.
+     *
+     * @param other Trie to merge in
+     */
+    void addAll(Trie other) {
+        copy(other, Trie.ROOT, 0);
+    }
+
+    private void copy(Trie base, int from, int to) {
+        if (base.isEndOfWord(from)) point[to] = base.point(from);
+        int mask = base.childMask(from);
+        while (mask != 0) {
+            int c = Integer.numberOfTrailingZeros(mask);
+            mask &= mask - 1;
+            copy(base, base.child(from, c), childOf(to, c));
+        }
+    }
+
+    /**
+     * Inserts a word, replacing the point of an existing entry.
+     *
+     * @param word  Word to insert
+     * @param value Positive point value, at most {@link Trie#MAX_POINT_VALUE}
+     * @return {@code false} if the word contains a letter that can never
+     *         appear on a board (the word is then skipped), {@code true}
+     *         otherwise
+     */
+    boolean insert(String word, int value) {
+        for (int i = 0; i < word.length(); i++)
+            if (Alphabet.codeOf(word.charAt(i)) < 0) return false;
+        int node = 0;
+        for (int i = 0; i < word.length(); i++)
+            node = childOf(node, Alphabet.codeOf(word.charAt(i)));
+        point[node] = value;
+        return true;
+    }
+
+    /**
+     * Removes a word. Prefix nodes left without words are dropped by
+     * {@link #build()}.
+     *
+     * @param word Word to remove
+     * @return {@code true} if the word was present
+     */
+    boolean remove(String word) {
+        int node = 0;
+        for (int i = 0; i < word.length() && node != Trie.NONE; i++) {
+            int c = Alphabet.codeOf(word.charAt(i));
+            if (c < 0) return false;
+            node = findChild(node, c);
+        }
+        if (node == Trie.NONE || node == 0 || point[node] == 0) return false;
+        point[node] = 0;
+        return true;
+    }
+
+    /** Returns the child of a node for a code, or {@link Trie#NONE}. */
+    private int findChild(int node, int c) {
+        int current = firstChild[node];
+        while (current != Trie.NONE && code[current] < c) current = nextSibling[current];
+        return current != Trie.NONE && code[current] == c ? current : Trie.NONE;
+    }
+
+    /**
+     * Returns the child of a node for a code, creating it if needed while
+     * keeping the sibling list sorted by code.
+     */
+    private int childOf(int node, int c) {
+        int prev = Trie.NONE;
+        int current = firstChild[node];
+        while (current != Trie.NONE && code[current] < c) {
+            prev = current;
+            current = nextSibling[current];
+        }
+        if (current != Trie.NONE && code[current] == c) return current;
+        int created = newNode(c);
+        nextSibling[created] = current;
+        if (prev == Trie.NONE) firstChild[node] = created;
+        else nextSibling[prev] = created;
+        return created;
+    }
+
+    private int newNode(int c) {
+        if (size == code.length) {
+            int capacity = size * 2;
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            point = Arrays.copyOf(point, capacity);
+            code = Arrays.copyOf(code, capacity);
+        }
+        int node = size++;
+        firstChild[node] = Trie.NONE;
+        nextSibling[node] = Trie.NONE;
+        point[node] = 0;
+        code[node] = (byte) c;
+        return node;
+    }
+
+    /**
+     * Freezes the current content into a compact {@link Trie}.
+     *
+     * @return New immutable trie
+     */
+    Trie build() {
+        // گره‌ها بعد از والدشان ساخته می‌شوند، پس پیمایش معکوس فرزندان را
+        // زودتر می‌بیند؛ شاخه‌هایی که کلمه‌ای ندارند (بعد از حذف) کنار می‌روند
+        boolean[] live = new boolean[size];
+        int count = 1;
+        for (int node = size - 1; node > 0; node--) {
+            boolean used = point[node] != 0;
+            for (int c = firstChild[node]; c != Trie.NONE && !used; c = nextSibling[c])
+                used = live[c];
+            live[node] = used;
+            if (used) count++;
+        }
+        int[] nodes = new int[count * Trie.STRIDE];
+        // صف BFS: ترتیب خروج همان شناسه‌ی نهایی گره است
+        int[] order = new int[count];
+        int tail = 1;
+        for (int head = 0; head < tail; head++) {
+            int node = order[head];
+            int base = head * Trie.STRIDE;
+            int mask = 0;
+            nodes[base + Trie.FIRST_CHILD] = tail;
+            for (int c = firstChild[node]; c != Trie.NONE; c = nextSibling[c]) {
+                if (!live[c]) continue;
+                mask |= 1 << code[c];
+                order[tail++] = c;
+            }
+            nodes[base + Trie.MASK] = mask;
+            nodes[base + Trie.POINT] = point[node];
+        }
+        // در ترتیب معکوس BFS فرزندان قبل از والد پردازش می‌شوند
+        for (int id = count - 1; id >= 0; id--) {
+            int base = id * Trie.STRIDE;
+            int max = nodes[base + Trie.POINT];
+            int height = 0;
+            // حروفی که همه‌ی کلمه‌های زیر این گره هنوز لازم دارند
+            int needed = nodes[base + Trie.POINT] != 0 ? 0 : -1;
+            int child = nodes[base + Trie.FIRST_CHILD];
+            for (int mask = nodes[base + Trie.MASK]; mask != 0; mask &= mask - 1) {
+                int bounds = nodes[child * Trie.STRIDE + Trie.BOUNDS];
+                max = Math.max(max, bounds & Trie.MAX_POINT_VALUE);
+                height = Math.max(height, (bounds >>> 24) + 1);
+                needed &= nodes[child * Trie.STRIDE + Trie.NEEDED] |
+                        Integer.lowestOneBit(mask);
+                child++;
+            }
+            nodes[base + Trie.BOUNDS] = height << 24 | max;
+            nodes[base + Trie.NEEDED] = needed;
+        }
+        return new Trie(nodes);
+    }
+
+    /**
+     * Freezes the current content into a minimized {@link Trie} (a DAWG), in
+     * which nodes with the same remaining words and points are stored once.
+     * <p>
+     * This minimizes the complete trie after the fact; it is not the
+     * incremental construction from a sorted word list (Daciuk et al.), since
+     * the builder accepts words in any order and from several sources. Nodes
+     * are registered bottom-up by a depth-first walk, children in code order
+     * before their parent: a node whose point and children match an already
+     * registered node is replaced by it, otherwise it is registered itself.
+     * The unique nodes are then laid out breadth-first from the root, each
+     * with its children's ids in the edge table. The result is the same
+     * minimal DAWG, but the plain builder trie and one signature array per
+     * unique node are held at once, so the build briefly needs more memory
+     * than a plain trie; only the finished DAWG is kept.
+     * </p>
+     *
+     * @return New immutable minimized trie
+     */
+    Trie buildMinimized() {
+        Minimizer minimizer = new Minimizer();
+        int root = minimizer.register(0);
+        if (root == Trie.NONE) root = minimizer.register(new int[]{0, 0});
+        return minimizer.layout(root);
+    }
+
+    /** Register of the unique nodes found while minimizing. */
+    private final class Minimizer {
+
+        /** Signature ({@code point, mask, child states...}) to state id. */
+        private final Map<Signature, Integer> register = new HashMap<>();
+
+        /** Per state: signature, bounds, needed letters and word count. */
+        private int[][] signatures = new int[INITIAL_CAPACITY][];
+        private int[] bounds = new int[INITIAL_CAPACITY];
+        private int[] needed = new int[INITIAL_CAPACITY];
+        private int[] counts = new int[INITIAL_CAPACITY];
+        private int states;
+        private int edges;
+
+        /**
+         * Registers the subtree of a builder node.
+         *
+         * @return State id, or {@link Trie#NONE} if no word remains below
+         */
+        int register(int node) {
+            int[] signature = new int[2 + Alphabet.SIZE];
+            int size = 2;
+            int mask = 0;
+            for (int c = firstChild[node]; c != Trie.NONE; c = nextSibling[c]) {
+                int child = register(c);
+                if (child == Trie.NONE) continue;
+                mask |= 1 << code[c];
+                signature[size++] = child;
+            }
+            if (mask == 0 && point[node] == 0) return Trie.NONE;
+            signature[0] = point[node];
+            signature[1] = mask;
+            return register(Arrays.copyOf(signature, size));
+        }
+
+        /** Returns the state with this signature, creating it if needed. */
+        int register(int[] signature) {
+            Integer known = register.get(new Signature(signature));
+            if (known != null) return known;
+            if (states == signatures.length) {
+                int capacity = states * 2;
+                signatures = Arrays.copyOf(signatures, capacity);
+                bounds = Arrays.copyOf(bounds, capacity);
+                needed = Arrays.copyOf(needed, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+            }
+            int state = states++;
+            // فرزندان قبل از والد ثبت شده‌اند، پس مقادیرشان آماده است
+            int max = signature[0];
+            int height = 0;
+            int letters = signature[0] != 0 ? 0 : -1;
+            int count = signature[0] != 0 ? 1 : 0;
+            int k = 2;
+            for (int mask = signature[1]; mask != 0; mask &= mask - 1, k++) {
+                int child = signature[k];
+                max = Math.max(max, bounds[child] & Trie.MAX_POINT_VALUE);
+                height = Math.max(height, (bounds[child] >>> 24) + 1);
+                letters &= needed[child] | Integer.lowestOneBit(mask);
+                count += counts[child];
+            }
+            signatures[state] = signature;
+            bounds[state] = height << 24 | max;
+            needed[state] = letters;
+            counts[state] = count;
+            edges += signature.length - 2;
+            register.put(new Signature(signature), state);
+            return state;
+        }
+
+        /** Lays the states out breadth-first from the root. */
+        Trie layout(int root) {
+            int[] id = new int[states];
+            Arrays.fill(id, Trie.NONE);
+            int[] order = new int[states];
+            int[] nodes = new int[states * Trie.STRIDE];
+            int[] children = new int[edges];
+            int[] offsets = new int[edges];
+            id[root] = 0;
+            order[0] = root;
+            int tail = 1;
+            int edge = 0;
+            for (int head = 0; head < tail; head++) {
+                int state = order[head];
+                int[] signature = signatures[state];
+                int base = head * Trie.STRIDE;
+                nodes[base + Trie.MASK] = signature[1];
+                nodes[base + Trie.FIRST_CHILD] = edge;
+                nodes[base + Trie.POINT] = signature[0];
+                nodes[base + Trie.BOUNDS] = bounds[state];
+                nodes[base + Trie.NEEDED] = needed[state];
+                // کلمه‌هایی که در ترتیب حروف پیش از کلمه‌های زیر هر یال می‌آیند
+                int before = signature[0] != 0 ? 1 : 0;
+                for (int k = 2; k < signature.length; k++) {
+                    int child = signature[k];
+                    if (id[child] == Trie.NONE) {
+                        id[child] = tail;
+                        order[tail++] = child;
+                    }
+                    offsets[edge] = before;
+                    children[edge++] = id[child];
+                    before += counts[child];
+                }
+            }
+            return new Trie(nodes, children, offsets);
+        }
+    }
+
+    /** Register key comparing node signatures by content. */
+    private record Signature(int[] values) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Signature signature &&
+                    Arrays.equals(values, signature.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+    }
+
+}
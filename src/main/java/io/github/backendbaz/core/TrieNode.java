@@ -11,8 +11,10 @@ import java.util.Map;
  *   <li>A map of child nodes keyed by single-character strings</li>
  *   <li>A flag indicating whether this node terminates a valid word</li>
  * </ul>
- * The trie structure is built by {@link Dictionary} during dictionary loading and used by
- * {@link Finder} for grid word searches.
+ * Since 2.2.0 the dictionary is stored in a compact {@link Trie}; nodes of
+ * this class are only copied from it by {@link Dictionary#getTrieRoot()} for
+ * code written against earlier versions, and changing them has no effect on
+ * the dictionary.
  * </p>
  *
  * <h2>Trie Structure Example:</h2>
@@ -23,7 +25,13 @@ import java.util.Map;
  *        |
  *        +-- "ر" [TrieNode] (endOfWord = true)  // represents word "ضَر"
  * }</pre>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @deprecated Use {@link Dictionary#getTrie()}; this class will be removed in
+ *             the next major version
  */
+@Deprecated(since = "2.2.0", forRemoval = true)
 public class TrieNode {
 
     /**
@@ -72,4 +80,26 @@ public class TrieNode {
         this.endOfWord = endOfWord;
     }
 
+    /**
+     * Copies the subtree of a compact trie node into {@code TrieNode}s.
+     * <p>
+     * Shared suffixes of a minimized trie are copied once per path, so the
+     * result is always a tree like the one earlier versions built.
+     * </p>
+     *
+     * @param trie Source trie
+     * @param node Node id to copy
+     * @return Root of the copied subtree
+     */
+    static TrieNode copyOf(Trie trie, int node) {
+        TrieNode copy = new TrieNode();
+        copy.endOfWord = trie.isEndOfWord(node);
+        for (int mask = trie.childMask(node); mask != 0; mask &= mask - 1) {
+            int code = Integer.numberOfTrailingZeros(mask);
+            copy.children.put(String.valueOf(Alphabet.letterOf(code)),
+                    copyOf(trie, trie.child(node, code)));
+        }
+        return copy;
+    }
+
 }
@@ -0,0 +1,178 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.Word;
+import java.util.List;
+
+/**
+ * Resumable depth-first search that yields a board's words one at a time,
+ * in discovery order.
+ * <p>
+ * The traversal is the one of {@link WordSearch} (same start cells, direction
+ * order and bonus-cell rules), so each word comes with the same first
+ * qualifying path and score; only the recursion is replaced by an explicit
+ * stack, which lets {@link #next()} stop right after a word and continue
+ * from there on the next call. Nothing is ranked and nothing is pruned by
+ * score, since the final ranking is unknown while words are still arriving;
+ * branches whose words all need a letter no unvisited cell holds are still
+ * skipped.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see WordPublisher
+ */
+final class WordCursor {
+
+    private final Trie trie;
+    private final Grid grid;
+    private final int[] letters;
+    private final BonusLayout bonuses;
+    private final long required;
+
+    /**
+     * DFS stack: cell, trie node, visited mask, next neighbour slot, cell
+     * points and word multiplier per depth.
+     */
+    private final int[] cells;
+    private final int[] nodes;
+    private final long[] visited;
+    private final int[] next;
+    private final long[] sums;
+    private final long[] multipliers;
+    private int depth;
+
+    /** Unvisited cells per letter code, and the letters that have any. */
+    private final int[] unused = new int[Alphabet.SIZE];
+    private int unusedLetters;
+
+    /** Next start cell once the stack is empty. */
+    private int start;
+
+    /** Words still to yield. */
+    private int remaining;
+
+    /** Keys of the words yielded so far ({@link Trie#wordKey(int, int[], int)}). */
+    private final WordSearch.NodeSet seen = new WordSearch.NodeSet();
+
+    /** Letter codes of a found path, for a minimized trie. */
+    private final int[] codes;
+
+    /**
+     * Creates a cursor positioned before the first word.
+     *
+     * @param trie    Dictionary trie
+     * @param grid    Board geometry
+     * @param letters Letter code per cell
+     * @param bonuses Bonus cells of the board
+     * @param limit   Maximum number of words to yield
+     */
+    WordCursor(Trie trie, Grid grid, int[] letters, BonusLayout bonuses, int limit) {
+        this.trie = trie;
+        this.grid = grid;
+        this.letters = letters;
+        this.bonuses = bonuses;
+        required = bonuses.requiredMask();
+        for (int i = 0; i < grid.cells; i++) {
+            unused[letters[i]]++;
+            unusedLetters |= 1 << letters[i];
+        }
+        cells = new int[grid.cells];
+        nodes = new int[grid.cells];
+        visited = new long[grid.cells];
+        next = new int[grid.cells];
+        sums = new long[grid.cells];
+        multipliers = new long[grid.cells];
+        codes = new int[grid.cells];
+        remaining = limit;
+    }
+
+    /**
+     * Continues the search up to the next new word.
+     *
+     * @return The word with its first qualifying path, or {@code null} once
+     *         the board (or the limit) is exhausted
+     */
+    Word next() {
+        if (remaining == 0) return null;
+        while (true) {
+            int cell;
+            int parent;
+            long mask;
+            long sum;
+            long multiplier;
+            if (depth == 0) {
+                if (start == grid.cells) {
+                    remaining = 0;
+                    return null;
+                }
+                cell = start++;
+                parent = Trie.ROOT;
+                mask = 0L;
+                sum = 0L;
+                multiplier = 1L;
+            } else {
+                int top = depth - 1;
+                int k = next[top];
+                // همسایه‌های این خانه تمام شده‌اند: یک قدم به عقب
+                if (k == grid.neighborStart[cells[top] + 1]) {
+                    int letter = letters[cells[top]];
+                    if (unused[letter]++ == 0) unusedLetters |= 1 << letter;
+                    depth--;
+                    continue;
+                }
+                next[top] = k + 1;
+                cell = grid.neighbors[k];
+                mask = visited[top];
+                if ((mask & (1L << cell)) != 0) continue;
+                parent = nodes[top];
+                sum = sums[top];
+                multiplier = multipliers[top];
+            }
+            int node = trie.child(parent, letters[cell]);
+            if (node == Trie.NONE) continue;
+            int letter = letters[cell];
+            int available = unused[letter] == 1 ? unusedLetters & ~(1 << letter) : unusedLetters;
+            if ((trie.neededLetters(node) & ~available) != 0) continue;
+            mask |= 1L << cell;
+            boolean qualifies = required == 0 || (mask & required) != 0;
+            if (!qualifies && bonuses.distance(cell) > trie.height(node)) continue;
+            cells[depth] = cell;
+            nodes[depth] = node;
+            visited[depth] = mask;
+            next[depth] = grid.neighborStart[cell];
+            sums[depth] = sum + bonuses.points(cell);
+            multipliers[depth] = multiplier * bonuses.multiplier(cell);
+            unused[letter]--;
+            unusedLetters = available;
+            depth++;
+            if (depth >= WordSearch.MIN_LENGTH && qualifies &&
+                    trie.isEndOfWord(node) && seen.add(key(node))) {
+                remaining--;
+                return word(node);
+            }
+        }
+    }
+
+    /** Returns the key of the word spelled by the current stack. */
+    private int key(int node) {
+        if (!trie.isMinimized()) return node;
+        for (int i = 0; i < depth; i++) codes[i] = letters[cells[i]];
+        return trie.wordKey(node, codes, depth);
+    }
+
+    /** Builds the word spelled by the current stack. */
+    private Word word(int node) {
+        char[] chars = new char[depth];
+        Point[] path = new Point[depth];
+        for (int i = 0; i < depth; i++) {
+            chars[i] = Alphabet.letterOf(letters[cells[i]]);
+            path[i] = grid.points[cells[i]];
+        }
+        return new Word(new String(chars), bonuses.score(trie.point(node),
+                sums[depth - 1], multipliers[depth - 1], depth), List.of(path));
+    }
+
+}
@@ -0,0 +1,149 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.PathMode;
+import io.github.backendbaz.models.SolveRequest;
+import io.github.backendbaz.models.Word;
+import java.util.List;
+
+/**
+ * Targeted search for single words on one board, for checking the words a
+ * player claims to have found without solving the whole board.
+ * <p>
+ * For a word of {@code n} letters the locator first works backwards from the
+ * last letter and memoizes, per letter index {@code i}, the bitmask of cells
+ * from which letters {@code i..n-1} can be spelled if cells could repeat.
+ * That is a necessary condition for a real path, so an empty mask rejects
+ * the word without any search, and the depth-first search that follows
+ * only steps onto cells of the next mask and stops at the first path it
+ * needs. A check usually takes little more than one step per letter,
+ * instead of a walk over the whole dictionary trie.
+ * </p>
+ * <p>
+ * The path reported for a word is the one
+ * {@link Finder#findTopWords(Dictionary, SolveRequest)} would report for the
+ * same request: the first qualifying path in DFS order, or with
+ * {@link PathMode#BEST} the best-scoring one. Instances are not thread-safe.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Finder#verifyAll
+ */
+final class WordLocator {
+
+    private final Trie trie;
+    private final Grid grid;
+    private final BonusLayout bonuses;
+    private final long required;
+
+    /** Whether every path of a word has to be scored to find the best one. */
+    private final boolean best;
+
+    /** Cells holding each letter code. */
+    private final long[] letterCells = new long[Alphabet.SIZE];
+
+    /** Per letter index, cells from which the rest of the word can be spelled. */
+    private final long[] reach;
+
+    /** Current path, and the chosen path with its score. */
+    private final int[] path;
+    private final int[] chosen;
+    private long chosenScore;
+    private boolean found;
+
+    /** Word being located. */
+    private int length;
+    private int point;
+
+    /**
+     * Creates a locator for a board.
+     *
+     * @param trie    Dictionary trie
+     * @param grid    Board geometry
+     * @param board   Letter code per cell
+     * @param request Bonus cells, filter, scoring and path mode
+     * @throws IllegalArgumentException If a bonus cell lies outside the grid
+     */
+    WordLocator(Trie trie, Grid grid, int[] board, SolveRequest request) {
+        this.trie = trie;
+        this.grid = grid;
+        bonuses = new BonusLayout(grid, board, request);
+        required = bonuses.requiredMask();
+        best = request.pathMode() == PathMode.BEST && bonuses.scoresPaths();
+        for (int cell = 0; cell < grid.cells; cell++)
+            letterCells[board[cell]] |= 1L << cell;
+        reach = new long[grid.cells];
+        path = new int[grid.cells];
+        chosen = new int[grid.cells];
+    }
+
+    /**
+     * Looks up a word in the dictionary and on the board.
+     *
+     * @param word Word to check
+     * @return The word with its path and score, or {@code null} if it is not
+     *         a dictionary word or cannot be traced (through a bonus cell, if
+     *         the request requires one)
+     */
+    Word locate(String word) {
+        if (word == null || word.length() < WordSearch.MIN_LENGTH ||
+                word.length() > grid.cells) return null;
+        int node = trie.find(word);
+        if (node == Trie.NONE || !trie.isEndOfWord(node)) return null;
+        length = word.length();
+        point = trie.point(node);
+        // از حرف آخر به عقب: خانه‌هایی که بقیه‌ی کلمه از آن‌ها قابل ساختن است
+        reach[length - 1] = letterCells[Alphabet.codeOf(word.charAt(length - 1))];
+        for (int i = length - 2; i >= 0; i--) {
+            long mask = 0;
+            for (long cells = letterCells[Alphabet.codeOf(word.charAt(i))];
+                 cells != 0; cells &= cells - 1) {
+                int cell = Long.numberOfTrailingZeros(cells);
+                if ((grid.adjacent[cell] & reach[i + 1]) != 0) mask |= 1L << cell;
+            }
+            if (mask == 0) return null;
+            reach[i] = mask;
+        }
+        found = false;
+        for (long cells = reach[0]; cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            if (search(cell, 0, 0L, bonuses.points(cell), bonuses.multiplier(cell)))
+                break;
+        }
+        if (!found) return null;
+        Point[] points = new Point[length];
+        for (int i = 0; i < length; i++) points[i] = grid.points[chosen[i]];
+        return new Word(word, chosenScore, List.of(points));
+    }
+
+    /**
+     * Extends the path with {@code cell} as letter {@code depth}.
+     *
+     * @return {@code true} once no further path is needed
+     */
+    private boolean search(int cell, int depth, long visited, long sum,
+                           long multiplier) {
+        path[depth] = cell;
+        visited |= 1L << cell;
+        if (depth == length - 1) {
+            if (required != 0 && (visited & required) == 0) return false;
+            long score = bonuses.score(point, sum, multiplier, length);
+            if (!found || score > chosenScore) {
+                System.arraycopy(path, 0, chosen, 0, length);
+                chosenScore = score;
+                found = true;
+            }
+            return !best;
+        }
+        long next = reach[depth + 1] & ~visited;
+        for (int k = grid.neighborStart[cell]; k < grid.neighborStart[cell + 1]; k++) {
+            int neighbor = grid.neighbors[k];
+            if ((next & 1L << neighbor) != 0 && search(neighbor, depth + 1, visited,
+                    sum + bonuses.points(neighbor),
+                    multiplier * bonuses.multiplier(neighbor)))
+                return true;
+        }
+        return false;
+    }
+
+}
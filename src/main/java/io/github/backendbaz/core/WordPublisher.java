@@ -0,0 +1,127 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.Word;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cold {@link Flow.Publisher} of the words of one board: every subscriber
+ * gets its own {@link WordCursor}, advanced only as far as it has requested.
+ * <p>
+ * Signals are delivered on the given executor, one task at a time per
+ * subscription. A task emits words while there is outstanding demand and then
+ * ends, so a slow subscriber holds no thread while it is not requesting;
+ * cancelling stops the search after the word being delivered.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ * @see Finder#stream(Dictionary, io.github.backendbaz.models.SolveRequest, Executor)
+ */
+final class WordPublisher implements Flow.Publisher<Word> {
+
+    private final Trie trie;
+    private final Grid grid;
+    private final int[] letters;
+    private final BonusLayout bonuses;
+    private final int limit;
+    private final Executor executor;
+
+    WordPublisher(Trie trie, Grid grid, int[] letters, BonusLayout bonuses,
+                  int limit, Executor executor) {
+        this.trie = trie;
+        this.grid = grid;
+        this.letters = letters;
+        this.bonuses = bonuses;
+        this.limit = limit;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Word> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is null");
+        Subscription subscription = new Subscription(subscriber,
+                new WordCursor(trie, grid, letters, bonuses, limit), executor);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /** Demand-driven delivery of one cursor's words to one subscriber. */
+    private static final class Subscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super Word> subscriber;
+        private final WordCursor cursor;
+        private final Executor executor;
+
+        private final AtomicLong demand = new AtomicLong();
+
+        /** Pending drain requests; the task runs only while this is non-zero. */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean done;
+        private volatile Throwable error;
+
+        Subscription(Flow.Subscriber<? super Word> subscriber, WordCursor cursor,
+                     Executor executor) {
+            this.subscriber = subscriber;
+            this.cursor = cursor;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0)
+                error = new IllegalArgumentException("Requested number of words " +
+                        "must be positive: " + n);
+            else demand.getAndAccumulate(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+
+        private void drain() {
+            if (pending.getAndIncrement() != 0) return;
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                done = true;
+                subscriber.onError(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                long requested = demand.get();
+                long emitted = 0;
+                while (!done) {
+                    if (error != null) {
+                        done = true;
+                        subscriber.onError(error);
+                        return;
+                    }
+                    if (emitted == requested) break;
+                    Word word = cursor.next();
+                    if (word == null) {
+                        done = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(word);
+                    emitted++;
+                }
+                if (done) return;
+                demand.addAndGet(-emitted);
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+}
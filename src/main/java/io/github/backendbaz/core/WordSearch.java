@@ -0,0 +1,806 @@
+package io.github.backendbaz.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Scratch state and depth-first search over one board of any {@link GridSize}.
+ * <p>
+ * The search visits cells exactly like the original recursive {@link Finder}
+ * implementation (start cells in row-major order, neighbours in the fixed
+ * direction order up, down, left, right and the four diagonals), so the first
+ * path recorded for each word is unchanged. What differs is the bookkeeping:
+ * </p>
+ * <ul>
+ *   <li>visited cells are a {@code long} mask passed by value, so backtracking
+ *       is free</li>
+ *   <li>neighbours come from a {@link Grid} table built once per grid size</li>
+ *   <li>the current path lives in a fixed {@code int[]} stack, one slot per cell</li>
+ *   <li>duplicates are detected in O(1) by the word's terminal trie node,
+ *       which is unique per word (in a minimized trie, by the word's index,
+ *       {@link Trie#wordKey(int, int[], int)}, computed once per found
+ *       path)</li>
+ *   <li>found paths are appended to a flat {@code byte[]} buffer</li>
+ * </ul>
+ * Visiting a node therefore allocates nothing; memory is only touched when a
+ * new word is found (and the buffers occasionally grow).
+ * <p>
+ * Only the best {@code limit} words are kept, in a bounded min-heap ordered
+ * like {@link Finder}'s ranking (score descending, then word). Once the heap
+ * is full, a branch is pruned when the highest score its trie subtree can
+ * reach ({@link BonusLayout#bound(int, long, int)}: the subtree's
+ * {@link Trie#maxPoint(int)} and letter values, with every bonus of the board
+ * applied)
+ * cannot beat the heap's weakest word, so asking for the top 5 explores a
+ * small fraction of the board. The bound holds for every path of a word, so
+ * pruning never drops a word that an exhaustive search would rank in the top
+ * {@code limit}.
+ * </p>
+ * <p>
+ * Bonus cells ({@link BonusLayout}) are handled inside the search: a word is
+ * reported with the first path in DFS order that passes a required bonus
+ * cell, and scored on that path. With {@link #selectPaths(boolean, int)} the
+ * same traversal can instead keep each word's best-scoring path (a later,
+ * better path overwrites the kept one in place, since it has the same
+ * length) and list up to a fixed number of paths per word. A branch is abandoned as soon as the
+ * nearest required cell is farther away than the longest word below its trie
+ * node ({@link Trie#height(int)}).
+ * </p>
+ * <p>
+ * A branch is also abandoned when every word below its trie node still
+ * needs a letter ({@link Trie#neededLetters(int)}) that no unvisited cell
+ * holds, either because the board lacks it or because the path has used it
+ * up.
+ * </p>
+ * <p>
+ * {@link #search(Grid, int[], int, BonusLayout, long, CancellationToken)}
+ * is an anytime variant: it searches the two-cell prefixes with the highest
+ * {@link BonusLayout#bound bound} first, so the heap fills with strong words
+ * early and prunes more, and stops at a deadline or on cancellation, checked
+ * every {@value #CHECK_INTERVAL} nodes. It goes in rounds: the first
+ * occurrence of every pair of letters, best bound first, then the second
+ * occurrences, and so on, since a repeated pair mostly finds the same words
+ * again. The occurrences of one pair keep their DFS order, so all paths of a
+ * word (which share their first two letters) are still met in DFS order, and
+ * a search that completes keeps exactly the paths of the plain one.
+ * </p>
+ * <p>
+ * Instances are not thread-safe, but can be reused for several boards. For
+ * parallel solving, the search space is split by the first two cells of each
+ * path ({@link #prefixes(Trie, Grid, int[])}); each worker searches its
+ * prefixes with its own instance and the results are concatenated in prefix
+ * order with {@link #addAll(WordSearch)}, which reproduces the sequential
+ * result.
+ * </p>
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+final class WordSearch {
+
+    /** Minimum length of a reported word. */
+    static final int MIN_LENGTH = 2;
+
+    /** Nodes visited between two checks of a search's deadline. */
+    static final int CHECK_INTERVAL = 2048;
+
+    /**
+     * Bits of a prefix's DFS index, and of its round, in its sort key (a
+     * 64-cell board has 420 prefixes).
+     */
+    private static final int PREFIX_BITS = 10;
+
+    /** Bounds above this sort as equal, so that sort keys cannot overflow. */
+    private static final long MAX_BOUND = (1L << (Long.SIZE - 1 - 2 * PREFIX_BITS)) - 1;
+
+    private final Trie trie;
+
+    /** Geometry of the board being searched. */
+    private Grid grid;
+
+    /** Neighbour table of {@link #grid}, copied for fast access. */
+    private int[] neighbors;
+    private int[] neighborStart;
+
+    /** Letter code per cell of the board being searched. */
+    private int[] letters;
+
+    /** Unvisited cells per letter code, and the letters that have any. */
+    private final int[] unused = new int[Alphabet.SIZE];
+    private int unusedLetters;
+
+    /** Maximum number of words kept. */
+    private int limit;
+
+    /** Bonus cells of the board being searched. */
+    private BonusLayout bonuses;
+
+    /** Cells a reported path must touch (any of them), or {@code 0}. */
+    private long required;
+
+    /** Cells of the current path (DFS stack). */
+    private int[] path = new int[GridSize.CLASSIC.cells()];
+
+    /** Letter codes of a found path, for {@link Trie#wordKey(int, int[], int)}. */
+    private int[] codes = new int[GridSize.CLASSIC.cells()];
+
+    /**
+     * Key of every word seen so far, whether kept or not; in best-path mode
+     * mapped to the word's found index ({@code -1} if none).
+     */
+    private final NodeSet seen = new NodeSet();
+
+    /** Whether a word keeps its best-scoring path instead of its first one. */
+    private boolean bestPath;
+
+    /** Paths listed per word, or {@code 0} to list none. */
+    private int maxPaths;
+
+    /** First listed path of every word, by word key. */
+    private final NodeSet pathLists = new NodeSet();
+
+    /** Listed paths: next path of the same word; per first path, the last one and the count. */
+    private int[] nextPath = new int[0];
+    private int[] lastPath = new int[0];
+    private int[] pathCount = new int[0];
+
+    /** Found words: word key, score, and start/length of the path in {@link #cells}. */
+    private int[] foundKeys = new int[64];
+    private long[] foundScores = new long[64];
+    private int[] foundStart = new int[64];
+    private byte[] foundLength = new byte[64];
+    private byte[] cells = new byte[256];
+    private int cellsSize;
+    private int count;
+
+    /** Min-heap of found word indices; {@code heap[0]} is the weakest kept word. */
+    private int[] heap = new int[64];
+    private int heapSize;
+
+    /** Heap slot of each found word, {@code -1} if it is not (or no longer) kept. */
+    private int[] position = new int[64];
+
+    /** Counters for {@link Instrumentation}; plain increments, always kept. */
+    private long nodesVisited;
+    private long deadEnds;
+    private long prunedBranches;
+    private long duplicates;
+
+    /** Deadline of an anytime search: start and budget in nanoseconds, and its token. */
+    private long startNanos;
+    private long budgetNanos;
+    private CancellationToken cancellation;
+
+    /** Nodes visited when the deadline is next checked. */
+    private long checkAt = Long.MAX_VALUE;
+
+    /** Whether the anytime search ran out of time or was cancelled. */
+    private boolean stopped;
+
+    /** Prefixes per pair of letter codes met so far while ordering the prefixes. */
+    private final int[] pairCount = new int[Alphabet.SIZE * Alphabet.SIZE];
+
+    /**
+     * Creates scratch state for searching boards against a trie.
+     *
+     * @param trie Dictionary trie
+     */
+    WordSearch(Trie trie) {
+        this.trie = trie;
+    }
+
+    /**
+     * Finds the best words on a board, replacing previous results.
+     *
+     * @param grid    Board geometry
+     * @param board   Letter code per cell (row-major)
+     * @param limit   Maximum number of words to keep
+     * @param bonuses Bonus cells of the board
+     */
+    void search(Grid grid, int[] board, int limit, BonusLayout bonuses) {
+        reset(grid, board, limit, bonuses);
+        for (int cell = 0; cell < grid.cells; cell++)
+            search(Trie.ROOT, cell, 0L, 0, 0L, 0L, 1L);
+    }
+
+    /**
+     * Finds the best words on a board within a time budget, replacing
+     * previous results; searches the most promising prefixes first.
+     *
+     * @param grid         Board geometry
+     * @param board        Letter code per cell (row-major)
+     * @param limit        Maximum number of words to keep
+     * @param bonuses      Bonus cells of the board
+     * @param budgetNanos  Time the search may take, from now
+     * @param cancellation Token that stops the search when cancelled
+     * @return {@code true} if the whole board was searched, {@code false} if
+     *         the search stopped early and kept the best words found so far
+     */
+    boolean search(Grid grid, int[] board, int limit, BonusLayout bonuses,
+                   long budgetNanos, CancellationToken cancellation) {
+        startNanos = System.nanoTime();
+        reset(grid, board, limit, bonuses);
+        this.budgetNanos = budgetNanos;
+        this.cancellation = cancellation;
+        int[] prefixes = prefixes(trie, grid, board);
+        // کلید: دور، سپس bound نزولی، سپس ترتیب DFS
+        long[] order = new long[prefixes.length];
+        Arrays.fill(pairCount, 0);
+        for (int i = 0; i < prefixes.length; i++) {
+            int first = prefixes[i] / grid.cells;
+            int second = prefixes[i] % grid.cells;
+            int node = trie.child(trie.child(Trie.ROOT, board[first]), board[second]);
+            long bound = bonuses.bound(trie.maxPoint(node), bonuses.value(first) +
+                    bonuses.value(second), trie.height(node));
+            long round = pairCount[board[first] * Alphabet.SIZE + board[second]]++;
+            order[i] = (round << (Long.SIZE - 1 - 2 * PREFIX_BITS) |
+                    MAX_BOUND - Math.min(bound, MAX_BOUND)) << PREFIX_BITS | i;
+        }
+        Arrays.sort(order);
+        checkAt = CHECK_INTERVAL;
+        try {
+            if (expired()) return false;
+            for (long key : order) {
+                searchPrefix(prefixes[(int) (key & (1 << PREFIX_BITS) - 1)]);
+                if (stopped) return false;
+            }
+            return true;
+        } finally {
+            checkAt = Long.MAX_VALUE;
+            this.cancellation = null;
+        }
+    }
+
+    /**
+     * Chooses which paths later searches keep; stays in effect across
+     * {@link #reset} until changed.
+     *
+     * @param best     {@code true} to keep each word's best-scoring path (the
+     *                 first one among equals) instead of its first one
+     * @param maxPaths Paths to list per word, in DFS order ({@code 0} for
+     *                 none); listing turns off the bound on branch scores,
+     *                 since weaker paths of a kept word are listed too
+     */
+    void selectPaths(boolean best, int maxPaths) {
+        bestPath = best;
+        this.maxPaths = maxPaths;
+    }
+
+    /**
+     * Clears previous results and binds the search to a board.
+     *
+     * @param grid    Board geometry
+     * @param board   Letter code per cell (row-major)
+     * @param limit   Maximum number of words to keep
+     * @param bonuses Bonus cells of the board
+     */
+    void reset(Grid grid, int[] board, int limit, BonusLayout bonuses) {
+        if (limit < 0) throw new IllegalArgumentException("topN must not be " +
+                "negative");
+        this.grid = grid;
+        neighbors = grid.neighbors;
+        neighborStart = grid.neighborStart;
+        if (path.length < grid.cells) {
+            path = new int[grid.cells];
+            codes = new int[grid.cells];
+        }
+        letters = board;
+        Arrays.fill(unused, 0);
+        unusedLetters = 0;
+        for (int i = 0; i < grid.cells; i++) {
+            unused[board[i]]++;
+            unusedLetters |= 1 << board[i];
+        }
+        this.limit = limit;
+        this.bonuses = bonuses;
+        required = bonuses.requiredMask();
+        seen.clear();
+        pathLists.clear();
+        count = 0;
+        cellsSize = 0;
+        heapSize = 0;
+        nodesVisited = 0;
+        deadEnds = 0;
+        prunedBranches = 0;
+        duplicates = 0;
+        stopped = false;
+    }
+
+    /**
+     * Finds the words whose path starts with two given cells, adding them to
+     * the current results.
+     *
+     * @param prefix Packed prefix as returned by {@link #prefixes(Trie, Grid, int[])}
+     */
+    void searchPrefix(int prefix) {
+        int first = prefix / grid.cells;
+        int node = trie.child(Trie.ROOT, letters[first]);
+        if (node == Trie.NONE) return;
+        path[0] = first;
+        int letter = letters[first];
+        int saved = unusedLetters;
+        if (--unused[letter] == 0) unusedLetters &= ~(1 << letter);
+        search(node, prefix % grid.cells, 1L << first, 1, bonuses.value(first),
+                bonuses.points(first), bonuses.multiplier(first));
+        unused[letter]++;
+        unusedLetters = saved;
+    }
+
+    /**
+     * Lists every two-cell path whose letters form a dictionary prefix, in
+     * DFS order. Each entry is packed as {@code first * cells + second}.
+     *
+     * @param trie  Dictionary trie
+     * @param grid  Board geometry
+     * @param board Letter code per cell
+     * @return Packed prefixes; their count also measures how much work a board is
+     */
+    static int[] prefixes(Trie trie, Grid grid, int[] board) {
+        int[] prefixes = new int[grid.neighbors.length];
+        int size = 0;
+        for (int first = 0; first < grid.cells; first++) {
+            int node = trie.child(Trie.ROOT, board[first]);
+            if (node == Trie.NONE) continue;
+            for (int k = grid.neighborStart[first]; k < grid.neighborStart[first + 1]; k++)
+                if (trie.child(node, board[grid.neighbors[k]]) != Trie.NONE)
+                    prefixes[size++] = first * grid.cells + grid.neighbors[k];
+        }
+        return Arrays.copyOf(prefixes, size);
+    }
+
+    /**
+     * Merges the results of another search over the same board and with the
+     * same limit. Words this search has already seen are skipped, so the
+     * path kept for each word is the first one in DFS order (in best-path
+     * mode, the other path wins only if it scores higher); the other search's
+     * seen words (kept or not) are seen here afterwards. Listed paths are
+     * not merged.
+     *
+     * @param other Search whose prefixes come after this one's in DFS order
+     */
+    void addAll(WordSearch other) {
+        int before = seen.size();
+        for (int h = 0; h < other.heapSize; h++) {
+            int i = other.heap[h];
+            int key = other.foundKeys[i];
+            boolean added = seen.add(key);
+            if (!added && !bestPath) continue;
+            int start = other.foundStart[i];
+            int length = other.foundLength[i];
+            for (int k = 0; k < length; k++) path[k] = other.cells[start + k];
+            if (!added) improve(key, length, other.foundScores[i]);
+            else if (bestPath) seen.put(key, offer(key, length, other.foundScores[i]));
+            else offer(key, length, other.foundScores[i]);
+        }
+        seen.addAll(other.seen);
+        nodesVisited += other.nodesVisited;
+        deadEnds += other.deadEnds;
+        prunedBranches += other.prunedBranches;
+        // کلمه‌هایی که هر دو جستجو پیدا کرده‌اند هم تکراری‌اند
+        duplicates += other.duplicates + other.seen.size() - (seen.size() - before);
+    }
+
+    /**
+     * Recursive DFS step: tries to extend the prefix at {@code node} with the
+     * letter of {@code cell}. {@code value}, {@code sum} and
+     * {@code multiplier} are the prefix's letter values, cell points and
+     * word multiplier ({@link BonusLayout}).
+     */
+    private void search(int node, int cell, long visited, int depth, long value,
+                        long sum, long multiplier) {
+        if (stopped) return;
+        int next = trie.child(node, letters[cell]);
+        if (next == Trie.NONE) {
+            deadEnds++;
+            return;
+        }
+        if (++nodesVisited == checkAt) {
+            checkAt += CHECK_INTERVAL;
+            if (expired()) return;
+        }
+        path[depth++] = cell;
+        value += bonuses.value(cell);
+        sum += bonuses.points(cell);
+        multiplier *= bonuses.multiplier(cell);
+        int letter = letters[cell];
+        int available = unused[letter] == 1 ? unusedLetters & ~(1 << letter) : unusedLetters;
+        // هیچ کلمه‌ای زیر این گره با حروف باقی‌مانده‌ی صفحه ساخته نمی‌شود
+        if ((trie.neededLetters(next) & ~available) != 0) {
+            prunedBranches++;
+            return;
+        }
+        // مسیرهای ضعیف‌تر یک کلمه‌ی برتر هم باید فهرست شوند
+        if (heapSize == limit && maxPaths == 0 && !canBeatWeakest(next, depth, value)) {
+            prunedBranches++;
+            return;
+        }
+        visited |= 1L << cell;
+        boolean qualifies = required == 0 || (visited & required) != 0;
+        // خانه‌ی ضریب‌دار از طولانی‌ترین کلمه‌ی این شاخه دورتر است
+        if (!qualifies && bonuses.distance(cell) > trie.height(next)) {
+            prunedBranches++;
+            return;
+        }
+        if (depth >= MIN_LENGTH && qualifies && trie.isEndOfWord(next))
+            found(next, depth, sum, multiplier);
+        int saved = unusedLetters;
+        unused[letter]--;
+        unusedLetters = available;
+        for (int k = neighborStart[cell]; k < neighborStart[cell + 1]; k++) {
+            int neighbor = neighbors[k];
+            if ((visited & (1L << neighbor)) == 0)
+                search(next, neighbor, visited, depth, value, sum, multiplier);
+        }
+        unused[letter]++;
+        unusedLetters = saved;
+    }
+
+    /**
+     * Checks the deadline, the cancellation token and the thread's interrupt
+     * status of an anytime search.
+     *
+     * @return {@code true} if the search must stop
+     */
+    private boolean expired() {
+        stopped = System.nanoTime() - startNanos >= budgetNanos ||
+                cancellation.isCancelled() ||
+                Thread.currentThread().isInterrupted();
+        return stopped;
+    }
+
+    /**
+     * Checks whether some word below {@code node} (whose prefix is the
+     * current path of {@code length} cells and letter values {@code value})
+     * could outrank the weakest kept word on any path. Words with an equal
+     * score only win if they sort first, which is decided by the prefix
+     * unless it is a prefix of the weakest word.
+     */
+    private boolean canBeatWeakest(int node, int length, long value) {
+        if (limit == 0) return false;
+        int weakest = heap[0];
+        long max = bonuses.bound(trie.maxPoint(node), value, trie.height(node));
+        long score = foundScores[weakest];
+        if (max != score) return max > score;
+        int start = foundStart[weakest];
+        int weakestLength = foundLength[weakest];
+        for (int k = 0; k < Math.min(length, weakestLength); k++) {
+            int diff = letters[path[k]] - letters[cells[start + k]];
+            if (diff != 0) return diff < 0;
+        }
+        return length < weakestLength;
+    }
+
+    /** Handles the word spelled by the current path of {@code length} cells. */
+    private void found(int node, int length, long sum, long multiplier) {
+        int key = node;
+        if (trie.isMinimized()) {
+            for (int i = 0; i < length; i++) codes[i] = letters[path[i]];
+            key = trie.wordKey(node, codes, length);
+        }
+        boolean added = seen.add(key);
+        if (!added) {
+            duplicates++;
+            if (!bestPath && maxPaths == 0) return;
+        }
+        long score = bonuses.score(trie.point(node), sum, multiplier, length);
+        if (!added) improve(key, length, score);
+        else if (bestPath) seen.put(key, offer(key, length, score));
+        else offer(key, length, score);
+        if (maxPaths != 0) listPath(key, length, score);
+    }
+
+    /**
+     * Keeps the word on the current path if it ranks within the limit.
+     *
+     * @return Found index of the kept word, or {@code -1}
+     */
+    private int offer(int key, int length, long score) {
+        int index;
+        if (heapSize == limit) {
+            if (limit == 0 || !better(score, length, heap[0])) return -1;
+            index = record(key, length, score);
+            position[heap[0]] = -1;
+            heap[0] = index;
+            siftDown(0);
+        } else {
+            if (heapSize == heap.length) heap = Arrays.copyOf(heap, heapSize * 2);
+            index = record(key, length, score);
+            heap[heapSize] = index;
+            siftUp(heapSize++);
+        }
+        return index;
+    }
+
+    /**
+     * Best-path mode: replaces the kept path of a word seen before if the
+     * current path scores higher.
+     */
+    private void improve(int key, int length, long score) {
+        if (!bestPath) return;
+        int index = seen.get(key);
+        if (index < 0) {
+            seen.put(key, offer(key, length, score));
+            return;
+        }
+        if (score <= foundScores[index]) return;
+        // یک کلمه همیشه یک طول دارد، پس مسیر جدید جای مسیر قبلی نوشته می‌شود
+        foundScores[index] = score;
+        int start = foundStart[index];
+        for (int i = 0; i < length; i++) cells[start + i] = (byte) path[i];
+        if (position[index] >= 0) siftDown(position[index]);
+        else if (better(score, length, heap[0])) {
+            // کلمه قبلاً از heap پر بیرون رفته بود
+            position[heap[0]] = -1;
+            heap[0] = index;
+            siftDown(0);
+        }
+    }
+
+    /** Adds the current path to its word's listed paths, up to {@link #maxPaths}. */
+    private void listPath(int key, int length, long score) {
+        int first = pathLists.get(key);
+        if (first >= 0 && pathCount[first] == maxPaths) return;
+        int index = record(key, length, score);
+        if (nextPath.length < foundKeys.length) {
+            nextPath = Arrays.copyOf(nextPath, foundKeys.length);
+            lastPath = Arrays.copyOf(lastPath, foundKeys.length);
+            pathCount = Arrays.copyOf(pathCount, foundKeys.length);
+        }
+        nextPath[index] = -1;
+        if (first < 0) {
+            pathLists.put(key, index);
+            lastPath[index] = index;
+            pathCount[index] = 1;
+        } else {
+            nextPath[lastPath[first]] = index;
+            lastPath[first] = index;
+            pathCount[first]++;
+        }
+    }
+
+    /** Checks if the word on the current path outranks found word {@code other}. */
+    private boolean better(long score, int length, int other) {
+        long otherScore = foundScores[other];
+        if (score != otherScore) return score > otherScore;
+        int start = foundStart[other];
+        int otherLength = foundLength[other];
+        for (int k = 0; k < Math.min(length, otherLength); k++) {
+            int diff = letters[path[k]] - letters[cells[start + k]];
+            if (diff != 0) return diff < 0;
+        }
+        return length < otherLength;
+    }
+
+    /** Ranking comparison of two found words; negative if {@code a} ranks first. */
+    private int compare(int a, int b) {
+        long scoreA = foundScores[a];
+        long scoreB = foundScores[b];
+        if (scoreA != scoreB) return scoreA > scoreB ? -1 : 1;
+        int startA = foundStart[a];
+        int startB = foundStart[b];
+        int lengthA = foundLength[a];
+        int lengthB = foundLength[b];
+        for (int k = 0; k < Math.min(lengthA, lengthB); k++) {
+            int diff = letters[cells[startA + k]] - letters[cells[startB + k]];
+            if (diff != 0) return diff;
+        }
+        return lengthA - lengthB;
+    }
+
+    private void siftUp(int index) {
+        int item = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (compare(heap[parent], item) > 0) break;
+            heap[index] = heap[parent];
+            position[heap[index]] = index;
+            index = parent;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+
+    private void siftDown(int index) {
+        int item = heap[index];
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < heapSize && compare(heap[child + 1], heap[child]) > 0)
+                child++;
+            if (compare(item, heap[child]) > 0) break;
+            heap[index] = heap[child];
+            position[heap[index]] = index;
+            index = child;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+
+    /** Appends the current path as a found word and returns its index. */
+    private int record(int key, int length, long score) {
+        if (count == foundKeys.length) {
+            int capacity = count * 2;
+            foundKeys = Arrays.copyOf(foundKeys, capacity);
+            foundScores = Arrays.copyOf(foundScores, capacity);
+            foundStart = Arrays.copyOf(foundStart, capacity);
+            foundLength = Arrays.copyOf(foundLength, capacity);
+            position = Arrays.copyOf(position, capacity);
+        }
+        if (cellsSize + length > cells.length)
+            cells = Arrays.copyOf(cells, Math.max(cells.length * 2,
+                    cellsSize + length));
+        foundKeys[count] = key;
+        foundScores[count] = score;
+        foundStart[count] = cellsSize;
+        foundLength[count] = (byte) length;
+        position[count] = -1;
+        for (int i = 0; i < length; i++) cells[cellsSize++] = (byte) path[i];
+        return count++;
+    }
+
+    /**
+     * Returns the kept words, best first.
+     *
+     * @return Indices of found words, usable with {@link #word(int)},
+     *         {@link #score(int)} and {@link #path(int)}
+     */
+    int[] ranked() {
+        int size = heapSize;
+        int[] ranked = new int[size];
+        int[] saved = Arrays.copyOf(heap, size);
+        // مرتب‌سازی heap: ضعیف‌ترین کلمه هر بار به انتهای لیست می‌رود
+        for (int i = size - 1; i >= 0; i--) {
+            ranked[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(0);
+        }
+        System.arraycopy(saved, 0, heap, 0, size);
+        heapSize = size;
+        for (int i = 0; i < size; i++) position[heap[i]] = i;
+        return ranked;
+    }
+
+    /** @return Trie nodes entered by the last search */
+    long nodesVisited() {
+        return nodesVisited;
+    }
+
+    /** @return Cell extensions that matched no trie child */
+    long deadEnds() {
+        return deadEnds;
+    }
+
+    /** @return Prefixes abandoned by the score bound or the bonus distance */
+    long prunedBranches() {
+        return prunedBranches;
+    }
+
+    /** @return Distinct words found, whether kept or not */
+    long wordsFound() {
+        return seen.size();
+    }
+
+    /** @return Words found again on a later path */
+    long duplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return First listed path of the {@code index}-th found word, as a
+     *         found index, or {@code -1}
+     */
+    int firstPath(int index) {
+        return pathLists.get(foundKeys[index]);
+    }
+
+    /** @return Listed path after {@code path} of the same word, or {@code -1} */
+    int nextPath(int path) {
+        return nextPath[path];
+    }
+
+    /** @return Score of the {@code index}-th found word on its path */
+    long score(int index) {
+        return foundScores[index];
+    }
+
+    /** @return Text of the {@code index}-th found word */
+    String word(int index) {
+        int start = foundStart[index];
+        char[] chars = new char[foundLength[index]];
+        for (int i = 0; i < chars.length; i++)
+            chars[i] = Alphabet.letterOf(letters[cells[start + i]]);
+        return new String(chars);
+    }
+
+    /** @return Path of the {@code index}-th found word */
+    List<Point> path(int index) {
+        int start = foundStart[index];
+        Point[] points = new Point[foundLength[index]];
+        for (int i = 0; i < points.length; i++)
+            points[i] = grid.points[cells[start + i]];
+        return List.of(points);
+    }
+
+    /**
+     * Open-addressing hash set of trie node ids or word keys, each with an
+     * {@code int} value; cleared in O(capacity) between boards without
+     * reallocating.
+     */
+    static final class NodeSet {
+
+        private int[] slots = new int[256];
+        private int[] values = new int[256];
+        private int size;
+
+        NodeSet() {
+            Arrays.fill(slots, Trie.NONE);
+        }
+
+        /** @return {@code true} if the node was not yet in the set */
+        boolean add(int node) {
+            int mask = slots.length - 1;
+            int i = mix(node) & mask;
+            while (slots[i] != Trie.NONE) {
+                if (slots[i] == node) return false;
+                i = (i + 1) & mask;
+            }
+            slots[i] = node;
+            values[i] = -1;
+            if (++size * 2 > slots.length) grow();
+            return true;
+        }
+
+        /** @return Value of the node, or {@code -1} if it has none or is absent */
+        int get(int node) {
+            int mask = slots.length - 1;
+            for (int i = mix(node) & mask; slots[i] != Trie.NONE; i = (i + 1) & mask)
+                if (slots[i] == node) return values[i];
+            return -1;
+        }
+
+        /** Adds the node if needed and sets its value. */
+        void put(int node, int value) {
+            add(node);
+            int mask = slots.length - 1;
+            int i = mix(node) & mask;
+            while (slots[i] != node) i = (i + 1) & mask;
+            values[i] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void addAll(NodeSet other) {
+            for (int node : other.slots)
+                if (node != Trie.NONE) add(node);
+        }
+
+        void clear() {
+            if (size == 0) return;
+            Arrays.fill(slots, Trie.NONE);
+            size = 0;
+        }
+
+        private void grow() {
+            int[] old = slots;
+            int[] oldValues = values;
+            slots = new int[old.length * 2];
+            values = new int[old.length * 2];
+            Arrays.fill(slots, Trie.NONE);
+            int mask = slots.length - 1;
+            for (int k = 0; k < old.length; k++) {
+                if (old[k] == Trie.NONE) continue;
+                int i = mix(old[k]) & mask;
+                while (slots[i] != Trie.NONE) i = (i + 1) & mask;
+                slots[i] = old[k];
+                values[i] = oldValues[k];
+            }
+        }
+
+        private static int mix(int node) {
+            return node * 0x9E3779B9 >>> 7;
+        }
+    }
+
+}
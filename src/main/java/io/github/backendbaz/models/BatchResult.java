@@ -0,0 +1,35 @@
+package io.github.backendbaz.models;
+
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import java.util.List;
+
+/**
+ * Outcome of solving one board of a batch.
+ * <p>
+ * Exactly one of {@code words} and {@code error} is meaningful: a board that
+ * fails validation is reported with its {@link InvalidLettersException} and an
+ * empty word list instead of aborting the rest of the batch.
+ * </p>
+ *
+ * @param letters The board's input string, as submitted
+ * @param words   Top words found on the board (empty on error)
+ * @param error   Validation failure, or {@code null} if the board was solved
+ *
+ * @see io.github.backendbaz.core.BatchFinder
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public record BatchResult(String letters, List<Word> words,
+                          InvalidLettersException error) {
+
+    /**
+     * Checks whether the board was solved.
+     *
+     * @return {@code true} if the board was valid, {@code false} otherwise
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+}
@@ -0,0 +1,78 @@
+package io.github.backendbaz.models;
+
+import io.github.backendbaz.core.Point;
+
+/**
+ * A multiplier printed on one cell of the board.
+ * <p>
+ * A {@link Kind#LETTER letter} bonus multiplies the tile value of the letter
+ * on its cell; a {@link Kind#WORD word} bonus multiplies the score of every
+ * word whose path passes through the cell. A multiplier of {@code 1} only
+ * marks the cell, which is useful together with
+ * {@link SolveRequest#requiringBonus()}.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * Bonus doubleLetter = Bonus.letter(0, 2, 2);
+ * Bonus tripleWord = Bonus.word(3, 1, 3);
+ * }</pre>
+ *
+ * @param cell       0-based position of the cell (non-null)
+ * @param kind       What the multiplier applies to (non-null)
+ * @param multiplier Multiplier in {@code 1..9}
+ *
+ * @see SolveRequest
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public record Bonus(Point cell, Kind kind, int multiplier) {
+
+    /** What a bonus multiplies. */
+    public enum Kind {
+        /** The tile value of the letter on the bonus cell. */
+        LETTER,
+        /** The score of the whole word. */
+        WORD
+    }
+
+    /**
+     * Validates the components.
+     *
+     * @throws IllegalArgumentException If a component is missing or the
+     *                                  multiplier is out of range
+     */
+    public Bonus {
+        if (cell == null || kind == null)
+            throw new IllegalArgumentException("Bonus cell and kind are required");
+        if (multiplier < 1 || multiplier > 9)
+            throw new IllegalArgumentException("Bonus multiplier must be " +
+                    "between 1 and 9");
+    }
+
+    /**
+     * Creates a letter multiplier.
+     *
+     * @param row        0-based row index
+     * @param col        0-based column index
+     * @param multiplier Multiplier in {@code 1..9}
+     * @return New bonus
+     */
+    public static Bonus letter(int row, int col, int multiplier) {
+        return new Bonus(new Point(row, col), Kind.LETTER, multiplier);
+    }
+
+    /**
+     * Creates a word multiplier.
+     *
+     * @param row        0-based row index
+     * @param col        0-based column index
+     * @param multiplier Multiplier in {@code 1..9}
+     * @return New bonus
+     */
+    public static Bonus word(int row, int col, int multiplier) {
+        return new Bonus(new Point(row, col), Kind.WORD, multiplier);
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.github.backendbaz.models;
+
+/**
+ * Statistics of one source loaded into a dictionary, as reported to a
+ * {@link io.github.backendbaz.core.SolveListener}.
+ *
+ * @param source         What was loaded, e.g. {@code "resource /dictionary/words.json"}
+ *                       or {@code "snapshot /dictionary/words.bin"}
+ * @param entriesParsed  Words read from the source
+ * @param entriesSkipped Words skipped because they contain a letter that
+ *                       never appears on a board
+ * @param nodeCount      Nodes of the resulting trie (including words loaded
+ *                       from earlier sources)
+ * @param estimatedBytes Size of the resulting trie's tables
+ * @param elapsedNanos   Time spent reading the source and building the trie
+ *
+ * @see io.github.backendbaz.core.Dictionary.Builder
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public record LoadStats(String source, long entriesParsed, long entriesSkipped,
+                        int nodeCount, long estimatedBytes, long elapsedNanos) {
+}
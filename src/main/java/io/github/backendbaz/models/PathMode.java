@@ -0,0 +1,31 @@
+package io.github.backendbaz.models;
+
+/**
+ * Chooses which path a word is reported with when the board spells it in
+ * more than one way.
+ * <p>
+ * Without bonus cells (and with a {@link io.github.backendbaz.core.ScoringStrategy
+ * scoring strategy} that only looks at letters) every path of a word scores
+ * the same, so both modes report the same scores.
+ * </p>
+ *
+ * @see SolveRequest#withPathMode(PathMode)
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public enum PathMode {
+
+    /**
+     * The first qualifying path in DFS order (start cells row by row, then
+     * neighbours in the grid's order).
+     */
+    FIRST,
+
+    /**
+     * The highest-scoring qualifying path under the request's bonuses and
+     * scoring; the first one in DFS order among equal scores.
+     */
+    BEST
+
+}
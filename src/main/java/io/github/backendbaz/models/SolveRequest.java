@@ -0,0 +1,161 @@
+package io.github.backendbaz.models;
+
+import io.github.backendbaz.core.LetterValueScoring;
+import io.github.backendbaz.core.ScoringStrategy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes what to find on a board: how many words, which cells carry
+ * multipliers, whether words must pass through one of them, and how words
+ * are scored.
+ * <p>
+ * Requests are immutable; the {@code with...} methods return modified copies.
+ * </p>
+ *
+ * <h2>Scoring:</h2>
+ * A word is scored on the path it is reported with. Each {@link Bonus.Kind#LETTER
+ * letter} bonus on the path adds {@code (multiplier - 1)} times the letter's
+ * tile value to the dictionary point, and the sum is then multiplied by every
+ * {@link Bonus.Kind#WORD word} bonus on the path. Without bonuses the score is
+ * the dictionary point. A different {@link ScoringStrategy} (e.g. letter
+ * values and length bonuses for another game mode) can be set per request
+ * with {@link #withScoring(ScoringStrategy)}; the dictionary stays the same.
+ * With bonuses, a word can score differently on each of its paths; the
+ * {@link PathMode} decides whether it is reported with its first or its
+ * best-scoring path.
+ *
+ * <h2>Usage Example:</h2>
+ * <pre>{@code
+ * SolveRequest request = SolveRequest.top(10)
+ *         .withBonus(Bonus.letter(0, 2, 2))
+ *         .withBonus(Bonus.word(3, 1, 3))
+ *         .requiringBonus();
+ * List<Word> words = finder.findTopWords(dictionary, request);
+ * }</pre>
+ *
+ * @param topN          Number of top results to return (non-negative)
+ * @param bonuses       Multiplier cells, at most one per cell
+ * @param bonusRequired {@code true} to only report words that have a path
+ *                      through at least one bonus cell
+ * @param scoring       How words are scored (non-null)
+ * @param pathMode      Which path each word is reported with (non-null)
+ *
+ * @see Bonus
+ * @see io.github.backendbaz.core.Finder
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public record SolveRequest(int topN, List<Bonus> bonuses, boolean bonusRequired,
+                           ScoringStrategy scoring, PathMode pathMode) {
+
+    /**
+     * Validates the components and copies the bonus list.
+     *
+     * @throws IllegalArgumentException If {@code topN} is negative, two
+     *                                  bonuses share a cell or the scoring or
+     *                                  path mode is missing
+     */
+    public SolveRequest {
+        if (topN < 0) throw new IllegalArgumentException("topN must not be " +
+                "negative");
+        if (scoring == null)
+            throw new IllegalArgumentException("Scoring strategy is required");
+        if (pathMode == null)
+            throw new IllegalArgumentException("Path mode is required");
+        bonuses = List.copyOf(bonuses);
+        for (int i = 0; i < bonuses.size(); i++)
+            for (int j = 0; j < i; j++)
+                if (bonuses.get(i).cell().equals(bonuses.get(j).cell()))
+                    throw new IllegalArgumentException("Duplicate bonus cell: " +
+                            bonuses.get(i).cell());
+    }
+
+    /**
+     * Creates a request that reports the {@link PathMode#FIRST first} path
+     * of each word.
+     *
+     * @param topN          Number of top results to return (non-negative)
+     * @param bonuses       Multiplier cells, at most one per cell
+     * @param bonusRequired {@code true} to only report words that have a path
+     *                      through at least one bonus cell
+     * @param scoring       How words are scored (non-null)
+     * @throws IllegalArgumentException If {@code topN} is negative, two
+     *                                  bonuses share a cell or the scoring is
+     *                                  missing
+     */
+    public SolveRequest(int topN, List<Bonus> bonuses, boolean bonusRequired,
+                        ScoringStrategy scoring) {
+        this(topN, bonuses, bonusRequired, scoring, PathMode.FIRST);
+    }
+
+    /**
+     * Creates a request scored with {@link LetterValueScoring#DICTIONARY}
+     * that reports the first path of each word.
+     *
+     * @param topN          Number of top results to return (non-negative)
+     * @param bonuses       Multiplier cells, at most one per cell
+     * @param bonusRequired {@code true} to only report words that have a path
+     *                      through at least one bonus cell
+     * @throws IllegalArgumentException If {@code topN} is negative or two
+     *                                  bonuses share a cell
+     */
+    public SolveRequest(int topN, List<Bonus> bonuses, boolean bonusRequired) {
+        this(topN, bonuses, bonusRequired, LetterValueScoring.DICTIONARY);
+    }
+
+    /**
+     * Creates a request for the best words, without bonuses.
+     *
+     * @param topN Number of top results to return
+     * @return New request
+     */
+    public static SolveRequest top(int topN) {
+        return new SolveRequest(topN, List.of(), false);
+    }
+
+    /**
+     * Returns a copy of this request with one more bonus cell.
+     *
+     * @param bonus Bonus to add
+     * @return New request
+     */
+    public SolveRequest withBonus(Bonus bonus) {
+        List<Bonus> all = new ArrayList<>(bonuses);
+        all.add(bonus);
+        return new SolveRequest(topN, all, bonusRequired, scoring, pathMode);
+    }
+
+    /**
+     * Returns a copy of this request that only reports words passing through
+     * at least one bonus cell.
+     *
+     * @return New request
+     */
+    public SolveRequest requiringBonus() {
+        return new SolveRequest(topN, bonuses, true, scoring, pathMode);
+    }
+
+    /**
+     * Returns a copy of this request scored with another strategy.
+     *
+     * @param scoring How words are scored
+     * @return New request
+     */
+    public SolveRequest withScoring(ScoringStrategy scoring) {
+        return new SolveRequest(topN, bonuses, bonusRequired, scoring, pathMode);
+    }
+
+    /**
+     * Returns a copy of this request that reports each word with another
+     * path.
+     *
+     * @param pathMode Which path each word is reported with
+     * @return New request
+     */
+    public SolveRequest withPathMode(PathMode pathMode) {
+        return new SolveRequest(topN, bonuses, bonusRequired, scoring, pathMode);
+    }
+
+}
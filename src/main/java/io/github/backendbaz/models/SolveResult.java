@@ -0,0 +1,27 @@
+package io.github.backendbaz.models;
+
+import java.util.List;
+
+/**
+ * Outcome of a solve with a time budget: the best words found, and whether
+ * the search covered the whole board.
+ * <p>
+ * A complete result is exactly what the same solve without a budget
+ * returns. An incomplete one holds the best words among the branches
+ * searched before the budget ran out or the solve was cancelled; since the
+ * most promising branches are searched first, these are usually most of
+ * the true top words. Each word has the score and path a complete result
+ * would give it, except in {@link PathMode#BEST}, where its best path may
+ * lie in a branch that was not searched.
+ * </p>
+ *
+ * @param words    Top words found, sorted like a solve without a budget
+ * @param complete {@code true} if the whole board was searched
+ *
+ * @see io.github.backendbaz.core.Finder#findTopWords(io.github.backendbaz.core.Dictionary,
+ *      SolveRequest, java.time.Duration, io.github.backendbaz.core.CancellationToken)
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public record SolveResult(List<Word> words, boolean complete) {}
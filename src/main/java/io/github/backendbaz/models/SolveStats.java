@@ -0,0 +1,50 @@
+package io.github.backendbaz.models;
+
+import io.github.backendbaz.core.GridSize;
+
+/**
+ * Counters and phase timings of one solved board, as reported to a
+ * {@link io.github.backendbaz.core.SolveListener}.
+ * <p>
+ * A high {@code deadEnds} count relative to {@code nodesVisited} means most
+ * letter combinations on the board are not dictionary prefixes; a high
+ * {@code prunedBranches} count means the top-N bound did most of the work.
+ * Counters of a parallel solve are summed over all tasks.
+ * </p>
+ *
+ * @param size           Board dimensions
+ * @param topN           Number of requested words
+ * @param parallel       Whether the search was split over a pool
+ * @param nodesVisited   Trie nodes entered, i.e. cell paths that spell a
+ *                       dictionary prefix
+ * @param deadEnds       Cell extensions whose letters spell no dictionary prefix
+ * @param prunedBranches Prefixes abandoned because no word below them could
+ *                       make the top {@code topN} or reach a required bonus cell
+ * @param wordsFound     Distinct words found
+ * @param duplicates     Words found again on a later path and discarded
+ * @param wordsReturned  Words in the result
+ * @param validateNanos  Time spent parsing and validating the letters
+ *                       ({@code 0} if the board was not parsed from text)
+ * @param searchNanos    Time spent in the depth-first search
+ * @param rankNanos      Time spent ranking and building the result
+ *
+ * @see io.github.backendbaz.core.Finder
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public record SolveStats(GridSize size, int topN, boolean parallel,
+                         long nodesVisited, long deadEnds, long prunedBranches,
+                         long wordsFound, long duplicates, int wordsReturned,
+                         long validateNanos, long searchNanos, long rankNanos) {
+
+    /**
+     * Returns the total time of the solve.
+     *
+     * @return Sum of the phase timings in nanoseconds
+     */
+    public long totalNanos() {
+        return validateNanos + searchNanos + rankNanos;
+    }
+
+}
@@ -0,0 +1,25 @@
+package io.github.backendbaz.models;
+
+import java.util.List;
+
+/**
+ * A found word together with the distinct paths that spell it.
+ *
+ * @param word  The found word
+ * @param point Score of the word's best path
+ * @param paths Qualifying paths of the word in DFS order, each with its own
+ *              score, up to the requested cap (non-empty)
+ *
+ * @see io.github.backendbaz.core.Finder#findAllPaths
+ *
+ * @author BackendBaz (Amirhossein Emadi)
+ * @version 2.2.0
+ */
+public record WordPaths(String word, long point, List<Word> paths) {
+
+    /** Copies the path list. */
+    public WordPaths {
+        paths = List.copyOf(paths);
+    }
+
+}
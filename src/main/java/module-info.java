@@ -5,12 +5,16 @@ module io.github.backendbaz.bazambazi.wordfinder {
     requires transitive com.fasterxml.jackson.databind;
     requires transitive com.fasterxml.jackson.core;
     requires transitive com.fasterxml.jackson.annotation;
+    requires jdk.jfr;
 
     // پکیج‌های عمومی
     exports io.github.backendbaz.core;
     exports io.github.backendbaz.exceptions;
     exports io.github.backendbaz.models;
 
+    // افزونه‌ها: شنونده‌های آمار حل جدول
+    uses io.github.backendbaz.core.SolveListener;
+
     // باز کردن پکیج‌ها برای Jackson (برای استفاده از reflection در سریالایزیشن)
     opens io.github.backendbaz.dto to com.fasterxml.jackson.databind;
 }
@@ -0,0 +1,30 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.models.BatchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchFinderTest {
+
+    @Test
+    @DisplayName("Batch results keep input order and isolate invalid boards")
+    public void solveAll_batchWithInvalidBoard_returnsResultsInInputOrder()
+            throws IOException, InterruptedException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        String board = "ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ پ د ر";
+        List<BatchResult> results = new BatchFinder(dictionary, 2)
+                .solveAll(List.of(board, "س ل ف ب ر", board), 1, "abc");
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("پدر", results.get(0).words().getFirst().word());
+        assertFalse(results.get(1).isSuccess());
+        assertTrue(results.get(1).error().getMessage()
+                .contains("Exactly " + 16 + " letters required"));
+        assertEquals(results.get(0).words(), results.get(2).words());
+    }
+
+}
@@ -0,0 +1,31 @@
+package io.github.backendbaz.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardGeneratorTest {
+
+    @Test
+    @DisplayName("Same seed writes a corpus that reads back as the same boards")
+    public void writeCorpus_sameSeed_readsBackSameBoards(@TempDir Path dir)
+            throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        Path file = dir.resolve("boards.txt");
+        new BoardGenerator(dictionary, 7).writeCorpus(file, 50,
+                BoardGenerator.Mode.ADVERSARIAL, GridSize.CLASSIC);
+        List<Board> boards = new BoardGenerator(dictionary, 7).boards(50,
+                BoardGenerator.Mode.ADVERSARIAL, GridSize.CLASSIC);
+        assertEquals(boards, BoardGenerator.readCorpus(file, GridSize.CLASSIC));
+        assertTrue(boards.stream().allMatch(board -> board.toString()
+                .chars().filter(c -> c != ' ').distinct().count() <=
+                BoardGenerator.ADVERSARIAL_LETTERS));
+        assertSame(dictionary, dictionary.warmUp(10));
+    }
+
+}
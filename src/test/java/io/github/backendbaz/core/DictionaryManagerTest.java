@@ -0,0 +1,81 @@
+package io.github.backendbaz.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DictionaryManagerTest {
+
+    @Test
+    @DisplayName("Updates publish a new dictionary and leave earlier snapshots unchanged")
+    public void addAndRemove_loadedDictionary_publishNewSnapshot() throws IOException {
+        var manager = new DictionaryManager(Dictionary.builder()
+                .load(Dictionary.PATH).build());
+        Dictionary before = manager.current();
+        manager.add("ببب", 3);
+        Dictionary after = manager.remove("عمادی");
+        assertSame(after, manager.current());
+        assertEquals(3, after.getPoint("ببب"));
+        assertNull(after.getPoint("عمادی"));
+        assertNull(before.getPoint("ببب"));
+        assertEquals(6, before.getPoint("عمادی"));
+    }
+
+    @Test
+    @DisplayName("Removing a word drops prefixes that no longer lead to a word")
+    public void remove_lastWordOfBranch_prunesBranch() {
+        var manager = new DictionaryManager(new Dictionary());
+        manager.add("ابر", 3);
+        manager.add("ابرو", 4);
+        Trie trie = manager.remove("ابرو").getTrie();
+        assertEquals(0, trie.height(trie.find("ابر")));
+        assertEquals(Trie.NONE, trie.find("ابرو"));
+        assertSame(trie, manager.remove("ابرو").getTrie(),
+                "Removing a missing word should not publish a new version");
+    }
+
+    @Test
+    @DisplayName("Changing the point of a missing word is rejected")
+    public void updatePoint_missingWord_throwsIllegalArgumentException() {
+        var manager = new DictionaryManager(new Dictionary());
+        assertThrows(IllegalArgumentException.class, () ->
+                manager.updatePoint("ابر", 3));
+        assertThrows(IllegalArgumentException.class, () ->
+                manager.add("حصاة", 3));
+    }
+
+    @Test
+    @DisplayName("A failed reload keeps the current dictionary")
+    public void reload_invalidFile_keepsCurrentDictionary(@TempDir Path dir)
+            throws IOException {
+        Path file = dir.resolve("words.json");
+        Files.writeString(file, "[{\"word\": \"ابر\", \"point\": 3}]");
+        var manager = new DictionaryManager(new Dictionary());
+        assertEquals(3, manager.reload(file).getPoint("ابر"));
+        Files.writeString(file, "[{\"word\": \"ابر\"");
+        assertThrows(IOException.class, () -> manager.reload(file));
+        assertEquals(3, manager.current().getPoint("ابر"));
+    }
+
+    @Test
+    @DisplayName("Updates and reloads of a minimized dictionary stay minimized")
+    public void applyAndReload_minimizedDictionary_stayMinimized(@TempDir Path dir)
+            throws IOException {
+        Path file = dir.resolve("words.json");
+        Files.writeString(file, "[{\"word\": \"ابر\", \"point\": 3}]");
+        var manager = new DictionaryManager(Dictionary.builder()
+                .minimized().load(file).build());
+        Dictionary updated = manager.add("ابرو", 4);
+        assertTrue(updated.getTrie().isMinimized());
+        assertEquals(4, updated.getPoint("ابرو"));
+        Dictionary reloaded = manager.reload(file);
+        assertTrue(reloaded.getTrie().isMinimized());
+        assertEquals(3, reloaded.getPoint("ابر"));
+        assertNull(reloaded.getPoint("ابرو"));
+    }
+
+}
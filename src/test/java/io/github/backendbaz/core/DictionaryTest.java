@@ -2,7 +2,11 @@ package io.github.backendbaz.core;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DictionaryTest {
@@ -35,4 +39,154 @@ public class DictionaryTest {
                 .getPoint("عمادی"));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    @DisplayName("Legacy loads fill the dictionary they are called on")
+    public void load_legacyDictionary_fillsReceiver() throws IOException {
+        var dictionary = new Dictionary();
+        var solver = new Solver(dictionary);
+        Board board = Board.parse("ا ت ش ن ی ن ا ش ن ع م ا د س ی ف");
+        assertTrue(solver.solve(board, 1).isEmpty());
+        assertSame(dictionary, dictionary.load(Dictionary.PATH));
+        assertEquals(6, dictionary.getPoint("عمادی"));
+        assertEquals("اتشنشانی", solver.solve(board, 1).get(0).word());
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    @DisplayName("The deprecated trie root is a node tree copied from the trie")
+    public void getTrieRoot_followWord_returnsEndOfWordNode() throws IOException {
+        var dictionary = Dictionary.builder().minimized().load(Dictionary.PATH)
+                .build();
+        TrieNode node = dictionary.getTrieRoot();
+        for (char c : "عما".toCharArray())
+            node = node.getChildren().get(String.valueOf(c));
+        assertFalse(node.isEndOfWord());
+        node = node.getChildren().get("د");
+        assertTrue(node.isEndOfWord());
+        assertTrue(node.getChildren().get("ی").isEndOfWord());
+        assertNotSame(dictionary.getTrieRoot(), dictionary.getTrieRoot());
+    }
+
+    @Test
+    @DisplayName("Word point is stored on its terminal trie node")
+    public void getTrie_followWord_returnsNodeWithPoint() throws IOException {
+        Trie trie = Dictionary.builder().load(Dictionary.PATH).build().getTrie();
+        int node = trie.find("عمادی");
+        assertNotEquals(Trie.NONE, node);
+        assertTrue(trie.isEndOfWord(node));
+        assertEquals(6, trie.point(node));
+        assertEquals(6, trie.maxPoint(trie.find("عماد")),
+                "Subtree maximum should include longer words");
+        assertEquals(1, trie.height(trie.find("عماد")));
+        assertEquals(0, trie.height(node));
+    }
+
+    @Test
+    @DisplayName("Needed letters are the letters every word below a node still needs")
+    public void neededLetters_sharedSuffixLetter_returnsCommonLetters() {
+        TrieBuilder builder = new TrieBuilder();
+        builder.insert("ابر", 3);
+        builder.insert("ابرو", 4);
+        builder.insert("ابزار", 5);
+        Trie trie = builder.build();
+        assertEquals(1 << Alphabet.codeOf('ر'), trie.neededLetters(trie.find("اب")));
+        assertEquals(0, trie.neededLetters(trie.find("ابر")));
+        assertEquals(1 << Alphabet.codeOf('ب') | 1 << Alphabet.codeOf('ر'),
+                trie.neededLetters(trie.find("ا")));
+    }
+
+    @Test
+    @DisplayName("Words with non-board letters are skipped")
+    public void load_wordWithNonBoardLetter_isSkipped() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        assertNull(dictionary.getPoint("حصاة"));
+        assertEquals(Trie.NONE, dictionary.getTrie().find("حصاة"));
+    }
+
+    @Test
+    @DisplayName("Snapshot written from JSON maps back to the same words")
+    public void loadSnapshot_writtenFromJson_returnsSamePoints(@TempDir Path dir)
+            throws IOException {
+        var json = Dictionary.builder().load(Dictionary.PATH).build();
+        Path file = dir.resolve("words.bin");
+        DictionarySnapshot.write(json.getTrie(), file);
+        var snapshot = Dictionary.builder().loadSnapshot(file).build();
+        assertEquals(json.getTrie().nodeCount(),
+                snapshot.getTrie().nodeCount());
+        assertEquals(6, snapshot.getPoint("عمادی"));
+    }
+
+    @Test
+    @DisplayName("Corrupted snapshot is rejected")
+    public void loadSnapshot_corruptedFile_throwsIOException(@TempDir Path dir)
+            throws IOException {
+        Path file = dir.resolve("words.bin");
+        DictionarySnapshot.write(Dictionary.builder().load(Dictionary.PATH).build()
+                .getTrie(), file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+        IOException exception = assertThrows(IOException.class, () ->
+                Dictionary.builder().loadSnapshot(file).build());
+        assertTrue(exception.getMessage().contains("checksum"));
+    }
+
+    @Test
+    @DisplayName("Load a word list from the file system")
+    public void load_fromPath_returnsDictionaryClass(@TempDir Path dir)
+            throws IOException {
+        Path file = dir.resolve("words.json");
+        Files.writeString(file, "[{\"word\": \"عمادی\", \"point\": 6}]");
+        assertEquals(6, Dictionary.builder().load(file).build().getPoint("عمادی"));
+    }
+
+    @Test
+    @DisplayName("Invalid entry in a streamed word list is rejected")
+    public void load_readerWithInvalidPoint_throwsIOException() {
+        IOException exception = assertThrows(IOException.class, () ->
+                Dictionary.builder().load(new StringReader(
+                        "[{\"word\": \"عمادی\", \"point\": 0}]")));
+        assertTrue(exception.getMessage().contains("point must be positive"));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    @DisplayName("Built dictionaries reject legacy loads and keep their words")
+    public void load_onBuiltDictionary_throwsAndKeepsWords() throws IOException {
+        Dictionary base = Dictionary.builder()
+                .load(new StringReader("[{\"word\": \"عمادی\", \"point\": 6}]"))
+                .build();
+        assertThrows(UnsupportedOperationException.class, () -> base.load(
+                new StringReader("[{\"word\": \"پدر\", \"point\": 4}]")));
+        assertNull(base.getPoint("پدر"));
+        assertEquals(6, base.getPoint("عمادی"));
+    }
+
+    @Test
+    @DisplayName("Minimized dictionary shares suffix nodes and keeps every point")
+    public void minimized_sharedSuffixes_keepsPointsWithFewerNodes(@TempDir Path dir)
+            throws IOException {
+        Dictionary plain = Dictionary.builder().load(Dictionary.PATH).build();
+        Dictionary compact = Dictionary.builder().minimized().load().build();
+        Trie trie = compact.getTrie();
+        assertTrue(trie.isMinimized());
+        assertTrue(trie.nodeCount() < plain.getTrie().nodeCount());
+        assertTrue(trie.sizeInBytes() < plain.getTrie().sizeInBytes());
+        assertEquals(plain.getTrie().wordCount(), trie.wordCount());
+        assertEquals(6, compact.getPoint("عمادی"));
+        Path file = dir.resolve("words.bin");
+        DictionarySnapshot.write(trie, file);
+        assertTrue(Dictionary.builder().loadSnapshot(file).build().getTrie()
+                .isMinimized());
+    }
+
+    @Test
+    @DisplayName("Default dictionary is loaded once and shared")
+    public void getDefault_calledTwice_returnsSameInstance() throws IOException {
+        Dictionary dictionary = Dictionary.getDefault();
+        assertSame(dictionary, Dictionary.getDefault());
+        assertEquals(6, dictionary.getPoint("عمادی"));
+    }
+
 }
@@ -1,12 +1,23 @@
 package io.github.backendbaz.core;
 
 import io.github.backendbaz.exceptions.InvalidLettersException;
+import io.github.backendbaz.models.Bonus;
+import io.github.backendbaz.models.PathMode;
+import io.github.backendbaz.models.SolveRequest;
+import io.github.backendbaz.models.SolveResult;
+import io.github.backendbaz.models.SolveStats;
 import io.github.backendbaz.models.Word;
+import io.github.backendbaz.models.WordPaths;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,6 +56,21 @@ public class FinderTest {
         assertTrue(exp.getMessage().contains("Invalid Persian letter: " + invalidLetter));
     }
 
+    @Test
+    @DisplayName("If input does not match the grid size, throws an InvalidLettersException")
+    public void finderConstructor_16LettersFor5x5Grid_ThrowsInvalidLettersException() {
+        InvalidLettersException exp = assertThrows(InvalidLettersException.class,
+                () -> new Finder("ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ پ د ر",
+                        new GridSize(5, 5)));
+        assertTrue(exp.getMessage().contains("Exactly " + 25 + " letters required"));
+    }
+
+    @Test
+    @DisplayName("If grid has more than 64 cells, throws an IllegalArgumentException")
+    public void gridSizeConstructor_tooManyCells_ThrowsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new GridSize(9, 8));
+    }
+
     @Test
     @DisplayName("Get 3 high-score words from dictionary words")
     public void findTopWords_get3HighScoreWords_returnsListOfWords() throws IOException {
@@ -105,6 +131,128 @@ public class FinderTest {
                 allWords, "List of words not matched");
     }
 
+    @Test
+    @DisplayName("Words are kept when any of their paths passes the high-score letter")
+    public void findTopWords_firstPathMissesHighScoreLetter_returnsWordOnLaterPath() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        List<Word> allWords = new ArrayList<>();
+        allWords.add(new Word("ابر", 3, List.of(new Point(0, 2),
+                new Point(0, 1), new Point(1, 0))));
+        allWords.add(new Word("ربا", 3, List.of(new Point(1, 0),
+                new Point(0, 1), new Point(0, 2))));
+        assertEquals(new Finder("ر ب ا ظ ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ")
+                        .findTopWords(dictionary, 5, "5"),
+                allWords, "List of words not matched");
+    }
+
+    @Test
+    @DisplayName("Letter and word multipliers change scores and ranking")
+    public void findTopWords_requestWithMultipliers_returnsScoredWords() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        SolveRequest request = SolveRequest.top(3)
+                .withBonus(Bonus.letter(3, 1, 2))
+                .withBonus(Bonus.word(0, 0, 3));
+        List<Word> words = new Finder("ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ پ د ر")
+                .findTopWords(dictionary, request);
+        assertEquals(List.of("ابر", "ربا", "پدر"),
+                words.stream().map(Word::word).toList());
+        assertEquals(List.of(9L, 9L, 6L),
+                words.stream().map(Word::point).toList());
+    }
+
+    @Test
+    @DisplayName("A scoring strategy replaces dictionary points per request")
+    public void findTopWords_letterValueScoring_returnsRescoredWords() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        Finder finder = new Finder("ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ پ د ر");
+        SolveRequest request = SolveRequest.top(3).withBonus(Bonus.word(0, 0, 3));
+        assertEquals(finder.findTopWords(dictionary, request), finder.findTopWords(
+                dictionary, request.withScoring(LetterValueScoring.TILE_VALUES)));
+        int[] values = new int[Alphabet.SIZE];
+        Arrays.fill(values, 1);
+        List<Word> words = finder.findTopWords(dictionary, request.withScoring(
+                LetterValueScoring.of(values).withLengthBonus(3, 5)));
+        assertEquals(List.of("ابر", "ربا", "پدر"),
+                words.stream().map(Word::word).toList());
+        assertEquals(List.of(14L, 14L, 8L),
+                words.stream().map(Word::point).toList());
+    }
+
+    @Test
+    @DisplayName("Best-path mode reports the path through the word bonus")
+    public void findTopWords_bestPathMode_returnsHighestScoringPath() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        Finder finder = new Finder("ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ا ب ر ظ");
+        SolveRequest request = SolveRequest.top(1).withBonus(Bonus.word(3, 0, 3));
+        assertEquals(3, finder.findTopWords(dictionary, request).get(0).point());
+        Word best = finder.findTopWords(dictionary,
+                request.withPathMode(PathMode.BEST)).get(0);
+        assertEquals(9, best.point());
+        assertEquals(List.of(new Point(3, 0), new Point(3, 1), new Point(3, 2)),
+                best.path());
+        WordPaths paths = finder.findAllPaths(dictionary, request, 5).get(0);
+        assertEquals("ابر", paths.word());
+        assertEquals(9, paths.point());
+        assertEquals(List.of(3L, 9L),
+                paths.paths().stream().map(Word::point).toList());
+    }
+
+    @Test
+    @DisplayName("Claimed words are checked against the dictionary and the board")
+    public void verifyAll_claimedWords_returnsWordsOnBoard() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        Finder finder = new Finder("ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ا ب ر ظ");
+        Word word = finder.findPath(dictionary, "ابر");
+        assertEquals(new Word("ابر", 3, List.of(new Point(0, 0), new Point(0, 1),
+                new Point(0, 2))), word);
+        assertNull(finder.findPath(dictionary, "پدر"), "Not on the board");
+        Map<String, Word> verified = finder.verifyAll(dictionary,
+                List.of("ربا", "پدر", "ابر", "ربا", "برا"));
+        assertEquals(List.of("ربا", "ابر"), List.copyOf(verified.keySet()));
+        assertEquals(word, verified.get("ابر"));
+    }
+
+    @Test
+    @DisplayName("Get 3 high-score words from a 5x5 grid")
+    public void findTopWords_5x5Grid_returnsListOfWords() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        List<Word> allWords = new ArrayList<>();
+        allWords.add(new Word("پدر", 4, List.of(new Point(4, 2),
+                new Point(4, 3), new Point(4, 4))));
+        allWords.add(new Word("ابر", 3, List.of(new Point(0, 0),
+                new Point(0, 1), new Point(0, 2))));
+        allWords.add(new Word("ربا", 3, List.of(new Point(0, 2),
+                new Point(0, 1), new Point(0, 0))));
+        assertEquals(new Finder("ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ پ د ر",
+                        new GridSize(5, 5)).findTopWords(dictionary, 3, "abc"),
+                allWords, "List of words not matched");
+    }
+
+    @Test
+    @DisplayName("Parallel search returns the same words as the sequential search")
+    public void findTopWords_parallelOnDenseBoard_returnsSameListAsSequential() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        var finder = new Finder("ا ب ر ت ن م د و ی س ک ل ه ش ز ا");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(finder.findTopWords(dictionary, 1000, "abc"),
+                    finder.findTopWords(dictionary, 1000, "abc", pool),
+                    "List of words not matched");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Pruned top-N search returns the head of the exhaustive ranking")
+    public void findTopWords_smallTopN_returnsPrefixOfFullRanking() throws IOException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        var finder = new Finder("ا ب ر ت ن م د و ی س ک ل ه ش ز ا");
+        List<Word> all = finder.findTopWords(dictionary, 1000, "abc");
+        assertEquals(all.subList(0, 5), finder.findTopWords(dictionary, 5, "abc"),
+                "List of words not matched");
+    }
+
     @Test
     @DisplayName("returns number of cell [r2, c2] in grid. " +
             "The start number is 0")
@@ -129,6 +277,129 @@ public class FinderTest {
                 Finder.getCellNumberOfGrid(0, 3, 1));
     }
 
+    @Test
+    @DisplayName("Streamed words equal the searched words and stop on cancel")
+    public void stream_requestAndCancel_emitsDiscoveredWords()
+            throws IOException, InvalidLettersException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        Finder finder = new Finder("ا ت ش ن ی ن ا ش ن ع م ا د س ی ف");
+        SolveRequest request = SolveRequest.top(1000);
+        List<Word> streamed = new ArrayList<>();
+        boolean[] completed = new boolean[1];
+        finder.stream(dictionary, request, Runnable::run).subscribe(
+                new Flow.Subscriber<>() {
+                    private Flow.Subscription subscription;
+
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        this.subscription = subscription;
+                        subscription.request(2);
+                    }
+
+                    @Override
+                    public void onNext(Word word) {
+                        streamed.add(word);
+                        if (streamed.size() == 2) subscription.request(1);
+                        else if (streamed.size() == 3) subscription.cancel();
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        fail(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        completed[0] = true;
+                    }
+                });
+        assertEquals(3, streamed.size());
+        assertFalse(completed[0]);
+        assertTrue(finder.findTopWords(dictionary, request).containsAll(streamed));
+    }
+
+    @Test
+    @DisplayName("Updating a cell gives the same result as solving the new board")
+    public void updateCell_changedLetter_equalsFullSolve()
+            throws IOException, InvalidLettersException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        var solver = new IncrementalSolver(dictionary,
+                "ا ت ش ن ی ن ا ش ن ع م ا د س ی ف");
+        solver.updateCell(1, 1, "ب");
+        solver.updateCell(3, 3, "ر");
+        var request = SolveRequest.top(1000).withBonus(Bonus.letter(0, 0, 2));
+        assertEquals(new Finder("ا ت ش ن ی ب ا ش ن ع م ا د س ی ر")
+                .findTopWords(dictionary, request), solver.findTopWords(request));
+        assertEquals(new Finder("ا ت ش ن ی ب ا ش ن ع م ا د س ی ر")
+                .findTopWords(dictionary, 5, "6"), solver.findTopWords(5, "6"));
+        assertThrows(IllegalArgumentException.class, () ->
+                solver.updateCell(4, 0, "ب"));
+    }
+
+    @Test
+    @DisplayName("A registered listener receives the counters of every solve")
+    public void findTopWords_withListener_reportsSolveStats()
+            throws IOException, InvalidLettersException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        List<SolveStats> solves = new ArrayList<>();
+        SolveListener listener = new SolveListener() {
+            @Override
+            public void onSolve(SolveStats stats) {
+                solves.add(stats);
+            }
+        };
+        Instrumentation.addListener(listener);
+        try {
+            new Finder("ا ت ش ن ی ن ا ش ن ع م ا د س ی ف")
+                    .findTopWords(dictionary, 1000, "");
+        } finally {
+            Instrumentation.removeListener(listener);
+        }
+        assertEquals(1, solves.size());
+        SolveStats stats = solves.get(0);
+        assertEquals(GridSize.CLASSIC, stats.size());
+        assertEquals(stats.wordsFound(), stats.wordsReturned());
+        assertTrue(stats.nodesVisited() > 0 && stats.deadEnds() > 0);
+        assertTrue(stats.validateNanos() > 0 && stats.searchNanos() > 0);
+    }
+
+    @Test
+    @DisplayName("A reusable solver gives the same words as a finder for the same letters")
+    public void solve_parsedBoardTwice_equalsFinder()
+            throws IOException, InvalidLettersException {
+        var dictionary = Dictionary.getDefault();
+        String letters = "ا ت ش ن ی ن ا ش ن ع م ا د س ی ف";
+        Board board = Board.parse(" " + letters.replace(" ", "\t ") + "\n");
+        assertEquals(letters, board.toString());
+        Solver solver = new Solver(dictionary);
+        SolveRequest request = SolveRequest.top(20).withBonus(Bonus.word(0, 0, 2));
+        List<Word> expected = new Finder(letters).findTopWords(dictionary, request);
+        assertEquals(expected, solver.solve(board, request));
+        assertEquals(expected, solver.solve(board, request));
+    }
+
+    @Test
+    @DisplayName("A budgeted search that completes equals the exhaustive one; a cancelled one is incomplete")
+    public void findTopWords_budgetedSearch_completesOrStopsEarly()
+            throws IOException, InvalidLettersException {
+        var dictionary = Dictionary.getDefault();
+        Finder finder = new Finder("ا ت ش ن ی ن ا ش ن ع م ا د س ی ف");
+        for (SolveRequest request : List.of(SolveRequest.top(1000),
+                SolveRequest.top(10).withBonus(Bonus.letter(0, 1, 2))
+                        .withBonus(Bonus.word(2, 2, 3)).withPathMode(PathMode.BEST))) {
+            SolveResult result = finder.findTopWords(dictionary, request,
+                    Duration.ofDays(1));
+            assertTrue(result.complete());
+            assertEquals(finder.findTopWords(dictionary, request), result.words());
+        }
+        CancellationToken cancelled = new CancellationToken();
+        cancelled.cancel();
+        SolveResult stopped = finder.findTopWords(dictionary, SolveRequest.top(10),
+                Duration.ofDays(1), cancelled);
+        assertFalse(stopped.complete());
+        assertTrue(stopped.words().isEmpty());
+    }
+
     @Test
     @DisplayName("returns number of cell [r3, c2] in grid. " +
             "The start number is 1")
@@ -137,4 +408,13 @@ public class FinderTest {
                 Finder.getCellNumberOfGrid(3, 2, 1));
     }
 
+    @Test
+    @DisplayName("returns number of cell [r2, c3] in a 5x5 grid. " +
+            "The start number is 10")
+    public void getCellNumberOfGrid_fiveColumnGridR2C3StartsBy10_returnsNumberOfCellInGrid() {
+        assertEquals(23,
+                Finder.getCellNumberOfGrid(new GridSize(5, 5), 2, 3, 10));
+        assertEquals(21, Finder.getCellNumberOfGrid(2, 3, 10));
+    }
+
 }
@@ -0,0 +1,76 @@
+package io.github.backendbaz.core;
+
+import io.github.backendbaz.exceptions.InvalidLettersException;
+import io.github.backendbaz.models.Word;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultCacheTest {
+
+    @Test
+    @DisplayName("A rotated board is a cache hit with paths in the caller's orientation")
+    public void findTopWords_rotatedBoard_returnsHitWithMappedPaths()
+            throws IOException, InvalidLettersException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        ResultCache cache = new ResultCache(dictionary, 10);
+        cache.findTopWords("ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ پ د ر", 1, "abc");
+        List<Word> rotated = cache.findTopWords(
+                "ر د پ ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ ر ب ا", 1, "abc");
+        assertEquals(List.of(new Word("پدر", 4, List.of(new Point(0, 2),
+                new Point(0, 1), new Point(0, 0)))), rotated);
+        assertEquals(new ResultCache.Stats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    @DisplayName("Entries expire after their time-to-live and are evicted by size")
+    public void findTopWords_expiredOrEldestEntry_isEvicted()
+            throws IOException, InvalidLettersException {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        AtomicLong now = new AtomicLong();
+        ResultCache cache = new ResultCache(dictionary, 1, Duration.ofSeconds(5),
+                now::get);
+        String board = "ا ب ر ظ ظ ظ ظ ظ ظ ظ ظ ظ ظ پ د ر";
+        cache.findTopWords(board, 1, "abc");
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        cache.findTopWords(board, 1, "abc");
+        cache.findTopWords(board, 2, "abc");
+        assertEquals(new ResultCache.Stats(0, 3, 2, 1), cache.stats());
+    }
+
+    @Test
+    @DisplayName("Concurrent misses for the same board run a single search")
+    public void findTopWords_concurrentMisses_searchOnce() throws Exception {
+        var dictionary = Dictionary.builder().load(Dictionary.PATH).build();
+        ResultCache cache = new ResultCache(dictionary, 10);
+        String board = "ا ت ش ن ی ن ا ش ن ع م ا د س ی ف";
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<Word>>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return cache.findTopWords(board, 10, "");
+                }));
+            start.countDown();
+            List<Word> first = results.get(0).get();
+            for (Future<List<Word>> result : results)
+                assertEquals(first, result.get());
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(new ResultCache.Stats(7, 1, 0, 1), cache.stats());
+    }
+
+}